@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.Interpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compares the evaluation cost of a spline interpolator against its baked table,
+ * run using {@code gradle :jfoenix:jmh}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BakedInterpolatorBenchmark {
+
+    private static final int FRACTIONS = 1024;
+
+    private final double[] fractions = new double[FRACTIONS];
+    private Interpolator spline;
+    private Interpolator baked;
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < FRACTIONS; i++) {
+            fractions[i] = (double) i / (FRACTIONS - 1);
+        }
+        spline = Interpolator.SPLINE(0.4, 0, 0.2, 1);
+        baked = BakedInterpolator.bake(spline);
+    }
+
+    @Benchmark
+    public double spline() {
+        return spline.interpolate(0.0, 100.0, nextFraction());
+    }
+
+    @Benchmark
+    public double baked() {
+        return baked.interpolate(0.0, 100.0, nextFraction());
+    }
+
+    private double nextFraction() {
+        index = (index + 1) & (FRACTIONS - 1);
+        return fractions[index];
+    }
+}
@@ -19,28 +19,252 @@
 
 package com.jfoenix.animation;
 
+import com.jfoenix.transitions.JFXAnimationPolicy;
 import javafx.animation.Animation;
+import javafx.animation.SequentialTransition;
+import javafx.geometry.Bounds;
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * navigation transition between two nodes, it plays the exit, shared nodes and entrance
+ * animations in sequence.
+ * <p>
+ * at most one transition is running per container (see {@link #getContainer()}), starting a
+ * transition completes the one running on the same container. a running transition can be
+ * interrupted and rewound to its start ({@link #stop()}) or reversed from its current state
+ * ({@link #reverse()}), and resumed by calling {@link #animate()} again.
+ * <p>
+ * shared nodes ({@link #getSharedNodes()}) are rendered as bitmap snapshots ({@link #snapshot(Node)})
+ * instead of live node trees while the transition runs: each shared node is hidden and its snapshot
+ * follows the node translation, scale, rotation and opacity. snapshots are removed and the shared
+ * nodes are shown again once the transition is over.
+ * <p>
+ * a snapshot only mirrors the transforms and opacity of its node, layout or size changes of the
+ * node (e.g. a resized or relocated node) are not reflected until the transition is over.
+ */
 public abstract class JFXNodesAnimation<S extends Node, T extends Node> {
 
     protected S fromNode;
     protected T toNode;
 
+    private SequentialTransition transition;
+    private Node container;
+    private final List<ImageView> snapshots = new ArrayList<>();
+    // shared nodes hidden behind their snapshots, mapped to their original visibility
+    private final Map<Node, Boolean> hiddenNodes = new LinkedHashMap<>();
+
     public JFXNodesAnimation(S fromNode, T toNode) {
         this.fromNode = fromNode;
         this.toNode = toNode;
     }
 
+    /**
+     * plays the transition, if the transition is being reversed it continues
+     * forward from its current state
+     */
     public void animate() {
+        if (transition != null) {
+            if (transition.getRate() < 0) {
+                transition.setRate(-transition.getRate());
+                JFXAnimationPolicy.play(transition);
+            }
+            return;
+        }
+        container = getContainer();
+        // the running transition is kept in the container properties, so it doesn't prevent
+        // the container from being collected if it never finishes
+        final Object running = container.getProperties().get(JFXNodesAnimation.class);
+        if (running instanceof JFXNodesAnimation) {
+            ((JFXNodesAnimation<?, ?>) running).complete();
+        }
+        container.getProperties().put(JFXNodesAnimation.class, this);
         init();
-        Animation exitAnimation = animateExit();
-        Animation sharedAnimation = animateSharedNodes();
-        Animation entranceAnimation = animateEntrance();
-        exitAnimation.setOnFinished(finish -> sharedAnimation.play());
-        sharedAnimation.setOnFinished(finish -> entranceAnimation.play());
-        entranceAnimation.setOnFinished(finish -> end());
-        exitAnimation.play();
+        snapshotSharedNodes();
+        final SequentialTransition transition = new SequentialTransition(animateExit(),
+            animateSharedNodes(),
+            animateEntrance());
+        transition.setOnFinished(finish -> finished(transition.getRate() > 0));
+        this.transition = transition;
+        JFXAnimationPolicy.play(transition);
+    }
+
+    /**
+     * reverses the running transition from its current state, once it reaches
+     * its start {@link #reverted()} is called
+     */
+    public void reverse() {
+        if (transition != null && transition.getRate() > 0) {
+            transition.setRate(-transition.getRate());
+            JFXAnimationPolicy.play(transition);
+        }
+    }
+
+    /**
+     * interrupts the running transition and rewinds the nodes to its start,
+     * {@link #reverted()} is called same as a reversed transition reaching its start
+     */
+    public void stop() {
+        if (transition != null) {
+            transition.jumpTo(Duration.ZERO);
+            transition.stop();
+            finished(false);
+        }
+    }
+
+    /**
+     * completes the running transition immediately in its current direction
+     */
+    public void complete() {
+        if (transition != null) {
+            final boolean forward = transition.getRate() > 0;
+            transition.jumpTo(forward ? transition.getTotalDuration() : Duration.ZERO);
+            transition.stop();
+            finished(forward);
+        }
+    }
+
+    public boolean isRunning() {
+        return transition != null;
+    }
+
+    private void finished(boolean forward) {
+        release();
+        if (forward) {
+            end();
+        } else {
+            reverted();
+        }
+    }
+
+    private void release() {
+        transition = null;
+        container.getProperties().remove(JFXNodesAnimation.class, this);
+        for (ImageView snapshot : snapshots) {
+            unbind(snapshot);
+            final List<Node> children = getChildren(snapshot.getParent());
+            if (children != null) {
+                children.remove(snapshot);
+            }
+        }
+        snapshots.clear();
+        for (Map.Entry<Node, Boolean> hiddenNode : hiddenNodes.entrySet()) {
+            hiddenNode.getKey().setVisible(hiddenNode.getValue());
+        }
+        hiddenNodes.clear();
+    }
+
+    /**
+     * replaces the shared nodes with their snapshots, each snapshot is added to the container
+     * over the container child holding its node and mirrors the changes of the node transforms.
+     * the layout bounds of the node are captured once, its later layout / size changes are ignored
+     */
+    private void snapshotSharedNodes() {
+        final List<Node> containerChildren = getChildren(container);
+        if (containerChildren == null) {
+            return;
+        }
+        for (Node node : getSharedNodes()) {
+            // the node opacity is applied to the snapshot instead
+            final double opacity = node.getOpacity();
+            node.setOpacity(1);
+            final ImageView snapshot = snapshot(node);
+            node.setOpacity(opacity);
+
+            // transforms are captured in the snapshot, only their changes are applied to it
+            final double translateX = node.getTranslateX();
+            final double translateY = node.getTranslateY();
+            final double rotate = node.getRotate();
+            snapshot.translateXProperty().bind(node.translateXProperty().subtract(translateX));
+            snapshot.translateYProperty().bind(node.translateYProperty().subtract(translateY));
+            snapshot.rotateProperty().bind(node.rotateProperty().subtract(rotate));
+            if (node.getScaleX() != 0) {
+                snapshot.scaleXProperty().bind(node.scaleXProperty().divide(node.getScaleX()));
+            }
+            if (node.getScaleY() != 0) {
+                snapshot.scaleYProperty().bind(node.scaleYProperty().divide(node.getScaleY()));
+            }
+            snapshot.opacityProperty().bind(node.opacityProperty());
+
+            Node child = node;
+            while (child != null && child.getParent() != container) {
+                child = child.getParent();
+            }
+            final int index = child == null ? -1 : containerChildren.indexOf(child);
+            containerChildren.add(index == -1 ? containerChildren.size() : index + 1, snapshot);
+
+            hiddenNodes.put(node, node.isVisible());
+            node.setVisible(false);
+        }
+    }
+
+    private static void unbind(ImageView snapshot) {
+        snapshot.translateXProperty().unbind();
+        snapshot.translateYProperty().unbind();
+        snapshot.rotateProperty().unbind();
+        snapshot.scaleXProperty().unbind();
+        snapshot.scaleYProperty().unbind();
+        snapshot.opacityProperty().unbind();
+    }
+
+    private static List<Node> getChildren(Node parent) {
+        if (parent instanceof Pane) {
+            return ((Pane) parent).getChildren();
+        } else if (parent instanceof Group) {
+            return ((Group) parent).getChildren();
+        }
+        return null;
+    }
+
+    /**
+     * @return the node in which the transition takes place, by default the parent of the from node
+     */
+    protected Node getContainer() {
+        return fromNode.getParent() == null ? fromNode : fromNode.getParent();
+    }
+
+    /**
+     * @return the nodes shared between the from and to nodes, they are replaced by their snapshots
+     * while the transition runs. called after {@link #init()}, by default there are no shared nodes.
+     * snapshots are captured at the node current scale, so nodes that are scaled up by the transition
+     * should not be returned as they get blurry, they are better animated as live nodes
+     */
+    protected List<Node> getSharedNodes() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * creates a cached bitmap snapshot of the node, positioned over the node in the
+     * container coordinates. the snapshot is removed from its parent once the transition is over
+     *
+     * @param node to be captured
+     * @return unmanaged image view of the node snapshot
+     */
+    protected ImageView snapshot(Node node) {
+        final SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        final ImageView snapshot = new ImageView(node.snapshot(parameters, null));
+        snapshot.setManaged(false);
+        snapshot.setMouseTransparent(true);
+        snapshot.setCache(true);
+        snapshot.setCacheHint(CacheHint.SPEED);
+        final Node coordinates = container == null ? getContainer() : container;
+        final Bounds bounds = coordinates.sceneToLocal(node.localToScene(node.getBoundsInLocal()));
+        snapshot.relocate(bounds.getMinX(), bounds.getMinY());
+        snapshots.add(snapshot);
+        return snapshot;
     }
 
     public abstract Animation animateExit();
@@ -53,4 +277,10 @@ public abstract class JFXNodesAnimation<S extends Node, T extends Node> {
 
     public abstract void end();
 
+    /**
+     * called once a reversed transition reaches its start, used to undo the changes done in {@link #init()}
+     */
+    protected void reverted() {
+    }
+
 }
@@ -26,6 +26,7 @@ import com.jfoenix.transitions.JFXKeyFrame;
 import com.jfoenix.transitions.JFXKeyValue;
 import javafx.animation.Interpolator;
 import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.property.*;
@@ -40,6 +41,7 @@ import javafx.scene.Node;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 import javafx.util.Callback;
 import javafx.util.Duration;
 
@@ -132,6 +134,13 @@ public class JFXDrawer extends StackPane {
     // used to cache the drawer size
     private double tempDrawerSize = getDefaultDrawerSize();
 
+    // used (only in transform animation mode) to hold the visual padding / mini drawer size during the animation,
+    // while the real sizes are committed once
+    private final DoubleProperty animatedPadding = new SimpleDoubleProperty();
+    private final DoubleProperty animatedSize = new SimpleDoubleProperty();
+    private final Rectangle sidePaneClip = new Rectangle();
+    private final Interpolator layoutInterpolator = new LayoutInterpolator();
+
     private JFXAnimationTimer translateTimer = new JFXAnimationTimer(
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
@@ -148,57 +157,70 @@ public class JFXDrawer extends StackPane {
                 .setTargetSupplier(() -> prefSizeProperty)
                 .setEndValueSupplier(() -> getDefaultDrawerSize())
                 .setAnimateCondition(() -> !hasMiniSize() && translateTo == initTranslate.get())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> maxSizeProperty)
                 .setEndValueSupplier(() -> getDefaultDrawerSize())
                 .setAnimateCondition(() -> !hasMiniSize() && translateTo == initTranslate.get())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         // open animation
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> prefSizeProperty)
                 .setEndValueSupplier(() -> tempDrawerSize)
                 .setAnimateCondition(() -> translateTo == 0 && tempDrawerSize > getDefaultDrawerSize() && !hasMiniSize())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> maxSizeProperty)
                 .setEndValueSupplier(() -> tempDrawerSize)
                 .setAnimateCondition(() -> translateTo == 0 && tempDrawerSize > getDefaultDrawerSize() && !hasMiniSize())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> prefSizeProperty)
                 .setEndValueSupplier(() -> getMiniDrawerSize())
                 .setAnimateCondition(() -> hasMiniSize() && resizeTo <= getMiniDrawerSize())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> maxSizeProperty)
                 .setEndValueSupplier(() -> getMiniDrawerSize())
                 .setAnimateCondition(() -> hasMiniSize() && resizeTo <= getMiniDrawerSize())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         // open animation
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> prefSizeProperty)
                 .setEndValueSupplier(() -> getDefaultDrawerSize())
                 .setAnimateCondition(() -> hasMiniSize() && resizeTo > getMiniDrawerSize())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> maxSizeProperty)
                 .setEndValueSupplier(() -> getDefaultDrawerSize())
                 .setAnimateCondition(() -> hasMiniSize() && resizeTo > getMiniDrawerSize())
-                .setInterpolator(Interpolator.EASE_BOTH).build()),
+                .setInterpolator(layoutInterpolator).build()),
         // padding animation
         new JFXKeyFrame(Duration.millis(420),
             JFXKeyValue.builder()
                 .setTargetSupplier(() -> paddingSizeProperty)
                 .setEndValueSupplier(this::computePaddingSize)
                 .setAnimateCondition(() -> isResizeContent())
+                .setInterpolator(layoutInterpolator).build()),
+        // transform animation
+        new JFXKeyFrame(Duration.millis(420),
+            JFXKeyValue.builder()
+                .setTarget(animatedPadding)
+                .setEndValueSupplier(this::computePaddingSize)
+                .setAnimateCondition(() -> isResizeContent() && isTransformAnimation())
+                .setInterpolator(Interpolator.EASE_BOTH).build()),
+        new JFXKeyFrame(Duration.millis(420),
+            JFXKeyValue.builder()
+                .setTarget(animatedSize)
+                .setEndValueSupplier(this::computeVisibleSize)
+                .setAnimateCondition(() -> isTransformAnimation())
                 .setInterpolator(Interpolator.EASE_BOTH).build())
 
     );
@@ -278,6 +300,21 @@ public class JFXDrawer extends StackPane {
             }
         });
 
+        // transform animation listeners
+        final InvalidationListener transformAnimationListener = observable -> updateTransformAnimation();
+        animatedPadding.addListener(transformAnimationListener);
+        animatedSize.addListener(transformAnimationListener);
+        paddingPane.minWidthProperty().addListener(transformAnimationListener);
+        paddingPane.minHeightProperty().addListener(transformAnimationListener);
+        sidePane.widthProperty().addListener(transformAnimationListener);
+        sidePane.heightProperty().addListener(transformAnimationListener);
+        directionProperty.addListener(transformAnimationListener);
+        transformAnimation.addListener(observable -> {
+            // cache the content while sliding
+            translateTimer.setCacheNodes(isTransformAnimation() ? new Node[] {sidePane, contentHolder} : new Node[] {sidePane});
+            updateTransformAnimation();
+        });
+
         overlayPane.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> close());
 
         sidePane.addEventHandler(MouseEvent.MOUSE_DRAGGED, mouseDragHandler);
@@ -384,6 +421,91 @@ public class JFXDrawer extends StackPane {
         translateTo = translation;
     }
 
+    /**
+     * updates the content translation and the side pane clip that show
+     * the animated padding / size in transform animation mode
+     */
+    private void updateTransformAnimation() {
+        if (!isTransformAnimation() || !translateTimer.isRunning()) {
+            // keep the animated values in sync with the layout while not animating
+            animatedPadding.set(paddingSizeProperty.get());
+            animatedSize.set(sizeProperty.get());
+        }
+        // slide the content instead of resizing it, the padding is committed once
+        final double paddingOffset = animatedPadding.get() - paddingSizeProperty.get();
+        // the content is padded on the drawer side, so it slides away from it
+        final DrawerDirection direction = getDirection();
+        contentHolder.setTranslateX(direction == DrawerDirection.LEFT ? paddingOffset
+            : direction == DrawerDirection.RIGHT ? -paddingOffset : 0);
+        contentHolder.setTranslateY(direction == DrawerDirection.TOP ? paddingOffset
+            : direction == DrawerDirection.BOTTOM ? -paddingOffset : 0);
+
+        // clip the side pane instead of resizing it, the size is committed once
+        final double size = sizeProperty.get();
+        final double visibleSize = animatedSize.get();
+        if (isTransformAnimation() && visibleSize < size) {
+            if (direction == DrawerDirection.LEFT || direction == DrawerDirection.RIGHT) {
+                sidePaneClip.setX(direction == DrawerDirection.RIGHT ? size - visibleSize : 0);
+                sidePaneClip.setY(0);
+                sidePaneClip.setWidth(visibleSize);
+                sidePaneClip.setHeight(sidePane.getHeight());
+            } else {
+                sidePaneClip.setX(0);
+                sidePaneClip.setY(direction == DrawerDirection.BOTTOM ? size - visibleSize : 0);
+                sidePaneClip.setWidth(sidePane.getWidth());
+                sidePaneClip.setHeight(visibleSize);
+            }
+            if (sidePane.getClip() == null) {
+                sidePane.setClip(sidePaneClip);
+            }
+        } else if (sidePane.getClip() == sidePaneClip) {
+            sidePane.setClip(null);
+        }
+    }
+
+    /**
+     * interpolator of the layout values (side pane size and content padding), in transform animation
+     * mode layout values are committed once instead of each frame: growing values are committed
+     * at the start of the animation and shrinking values at its end
+     */
+    private final class LayoutInterpolator extends Interpolator {
+        @Override
+        public double interpolate(double startValue, double endValue, double fraction) {
+            if (!isTransformAnimation()) {
+                return Interpolator.EASE_BOTH.interpolate(startValue, endValue, fraction);
+            }
+            final boolean commit = endValue > startValue ? fraction > 0 : fraction >= 1;
+            return commit ? endValue : startValue;
+        }
+
+        @Override
+        public Object interpolate(Object startValue, Object endValue, double fraction) {
+            if (startValue instanceof Number && endValue instanceof Number) {
+                return interpolate(((Number) startValue).doubleValue(), ((Number) endValue).doubleValue(), fraction);
+            }
+            return Interpolator.EASE_BOTH.interpolate(startValue, endValue, fraction);
+        }
+
+        @Override
+        protected double curve(double t) {
+            return Interpolator.EASE_BOTH.interpolate(0.0, 1.0, t);
+        }
+    }
+
+    /**
+     * @return the side pane size at the end of the animation, mirrors the size key frames
+     */
+    private double computeVisibleSize() {
+        if (hasMiniSize()) {
+            return resizeTo <= getMiniDrawerSize() ? getMiniDrawerSize() : getDefaultDrawerSize();
+        } else if (translateTo == 0 && tempDrawerSize > getDefaultDrawerSize()) {
+            return tempDrawerSize;
+        } else if (translateTo == initTranslate.get()) {
+            return getDefaultDrawerSize();
+        }
+        return sizeProperty.get();
+    }
+
     private double computePaddingSize() {
         if (!isResizeContent()) {
             return 0;
@@ -693,6 +815,26 @@ public class JFXDrawer extends StackPane {
     }
 
 
+    /**
+     * when enabled, the drawer is animated using only translation and clipping: the side pane size
+     * (mini drawer / resized drawer) and the content padding (resize content) are committed once
+     * instead of being laid out on each frame. the content is cached while sliding.
+     */
+    private BooleanProperty transformAnimation = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty transformAnimationProperty() {
+        return this.transformAnimation;
+    }
+
+    public final boolean isTransformAnimation() {
+        return this.transformAnimationProperty().get();
+    }
+
+    public final void setTransformAnimation(final boolean transformAnimation) {
+        this.transformAnimationProperty().set(transformAnimation);
+    }
+
+
     private boolean resizable = false;
 
     public boolean isResizableOnDrag() {
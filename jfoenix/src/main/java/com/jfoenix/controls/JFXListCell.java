@@ -63,7 +63,9 @@ import java.util.Set;
  */
 public class JFXListCell<T> extends ListCell<T> {
 
-    protected JFXRippler cellRippler = new JFXRippler(this) {
+    // the rippler is added to the cell on the first press, it's never
+    // added if the list view uses a shared ripple layer
+    protected JFXRippler cellRippler = new JFXRippler() {
         @Override
         protected Node getMask() {
             Region clip = new Region();
@@ -89,6 +91,7 @@ public class JFXListCell<T> extends ListCell<T> {
     private double animatedHeight = 0;
     private boolean playExpandAnimation = false;
     private boolean selectionChanged = false;
+    private boolean cellRipplerAttached = false;
 
     /**
      * {@inheritDoc}
@@ -96,6 +99,23 @@ public class JFXListCell<T> extends ListCell<T> {
     public JFXListCell() {
         initialize();
         initListeners();
+        addEventFilter(MouseEvent.MOUSE_PRESSED, event -> attachRippler());
+    }
+
+    /**
+     * adds the cell rippler on the first press, the rippler registers its own press handler
+     * on the cell which is still invoked for the current press
+     */
+    private void attachRippler() {
+        if (!cellRipplerAttached && !isSharedRipple()) {
+            cellRipplerAttached = true;
+            if (cellRippler.getControl() == null) {
+                cellRippler.setControl(this);
+            }
+            makeChildrenTransparent();
+            getChildren().add(0, cellRippler);
+            cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
+        }
     }
 
     /**
@@ -106,7 +126,9 @@ public class JFXListCell<T> extends ListCell<T> {
             if (newList != null) {
                 if (getListView() instanceof JFXListView) {
                     ((JFXListView<?>) newList).currentVerticalGapProperty().addListener((o, oldVal, newVal) -> {
-                        cellRippler.rippler.setClip(null);
+                        if (cellRippler.rippler != null) {
+                            cellRippler.rippler.setClip(null);
+                        }
                         if (newVal.doubleValue() != 0) {
                             playExpandAnimation = true;
                             getListView().requestLayout();
@@ -140,7 +162,9 @@ public class JFXListCell<T> extends ListCell<T> {
     @Override
     protected void layoutChildren() {
         super.layoutChildren();
-        cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
+        if (cellRipplerAttached) {
+            cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
+        }
         double gap = getGap();
 
         if (clip == null) {
@@ -187,10 +211,10 @@ public class JFXListCell<T> extends ListCell<T> {
             clip.setX(0);
             clip.setWidth(getWidth());
         }
-        if (!getChildren().contains(cellRippler)) {
+        if (cellRipplerAttached && !getChildren().contains(cellRippler)) {
             makeChildrenTransparent();
             getChildren().add(0, cellRippler);
-            cellRippler.rippler.clear();
+            cellRippler.clearRipples();
         }
 
         // refresh sublist style class
@@ -239,7 +263,7 @@ public class JFXListCell<T> extends ListCell<T> {
                 Node newNode = (Node) item;
                 if (currentNode == null || !currentNode.equals(newNode)) {
                     cellContent = newNode;
-                    cellRippler.rippler.cacheRippleClip(false);
+                    cellRippler.cacheRippleClip(false);
                     // build the Cell node
                     // RIPPLER ITEM : in case if the list item has its own rippler bind the list rippler and item rippler properties
                     if (newNode instanceof JFXRippler) {
@@ -295,21 +319,27 @@ public class JFXListCell<T> extends ListCell<T> {
                         contentHolder.getStyleClass().add("sublist-container");
                         VBox.setVgrow(groupNode, Priority.ALWAYS);
                         cellContent = contentHolder;
-                        cellRippler.ripplerPane.addEventHandler(MouseEvent.ANY, e -> e.consume());
-                        contentHolder.addEventHandler(MouseEvent.ANY, e -> {
-                            if (!e.isConsumed()) {
-                                cellRippler.ripplerPane.fireEvent(e);
-                                e.consume();
-                            }
-                        });
-                        cellRippler.ripplerPane.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
-                            if (!e.isConsumed()) {
-                                e.consume();
-                                contentHolder.fireEvent(e);
-                            }
-                        });
-                        // cache rippler clip in subnodes
-                        cellRippler.rippler.cacheRippleClip(true);
+                        // the sublist header forwards its events through the rippler,
+                        // the shared ripple layer handles the events of the cell itself
+                        if (!isSharedRipple()) {
+                            attachRippler();
+                            cellRippler.createRippleUI();
+                            cellRippler.ripplerPane.addEventHandler(MouseEvent.ANY, e -> e.consume());
+                            contentHolder.addEventHandler(MouseEvent.ANY, e -> {
+                                if (!e.isConsumed()) {
+                                    cellRippler.ripplerPane.fireEvent(e);
+                                    e.consume();
+                                }
+                            });
+                            cellRippler.ripplerPane.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+                                if (!e.isConsumed()) {
+                                    e.consume();
+                                    contentHolder.fireEvent(e);
+                                }
+                            });
+                            // cache rippler clip in subnodes
+                            cellRippler.cacheRippleClip(true);
+                        }
 
                         this.setOnMouseClicked(e -> e.consume());
                         // Finally, add sublist animation
@@ -393,6 +423,10 @@ public class JFXListCell<T> extends ListCell<T> {
     }
 
 
+    private boolean isSharedRipple() {
+        return getListView() instanceof JFXListView && ((JFXListView<?>) getListView()).isSharedRippleLayer();
+    }
+
     private void updateClipHeight(double newHeight) {
         clip.setHeight(newHeight - getGap());
     }
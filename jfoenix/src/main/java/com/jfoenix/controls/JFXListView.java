@@ -31,6 +31,7 @@ import javafx.event.Event;
 import javafx.scene.Node;
 import javafx.scene.control.Control;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.Skin;
 import javafx.scene.input.ContextMenuEvent;
@@ -108,6 +109,39 @@ public class JFXListView<T> extends ListView<T> {
         this.showTooltipProperty().set(showTooltip);
     }
 
+    /**
+     * if true, the list cells won't create their own ripplers, instead a single rippler
+     * is shared by all cells and shown on top of the pressed cell.
+     * it's recommended for large lists as it reduces the number of nodes / listeners per cell.
+     */
+    private BooleanProperty sharedRippleLayer = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty sharedRippleLayerProperty() {
+        return this.sharedRippleLayer;
+    }
+
+    public final boolean isSharedRippleLayer() {
+        return this.sharedRippleLayerProperty().get();
+    }
+
+    public final void setSharedRippleLayer(final boolean sharedRippleLayer) {
+        this.sharedRippleLayerProperty().set(sharedRippleLayer);
+    }
+
+    private SharedCellRippler sharedRippler;
+
+    private void updateSharedRippler() {
+        if (isSharedRippleLayer()) {
+            if (sharedRippler == null) {
+                sharedRippler = new SharedCellRippler(this, ListCell.class);
+            }
+            sharedRippler.attach(getChildren());
+        } else if (sharedRippler != null) {
+            sharedRippler.detach(getChildren());
+            sharedRippler = null;
+        }
+    }
+
     /***************************************************************************
      *                                                                         *
      * SubList Properties                                                      *
@@ -217,6 +251,13 @@ public class JFXListView<T> extends ListView<T> {
 
     private void initialize() {
         this.getStyleClass().add(DEFAULT_STYLE_CLASS);
+        sharedRippleLayer.addListener(observable -> {
+            updateSharedRippler();
+            // recreate the cells to add / remove their own ripplers
+            refresh();
+        });
+        // the shared rippler must stay on top of the skin nodes
+        skinProperty().addListener(observable -> updateSharedRippler());
         expanded.addListener((o, oldVal, newVal) -> {
             if (newVal) {
                 expand();
@@ -19,7 +19,8 @@
 
 package com.jfoenix.controls;
 
-import com.jfoenix.transitions.CachedTransition;
+import com.jfoenix.transitions.CacheMomento;
+import com.jfoenix.transitions.JFXAnimationPolicy;
 import javafx.animation.*;
 import javafx.beans.property.*;
 import javafx.collections.ListChangeListener;
@@ -31,8 +32,11 @@ import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.util.Duration;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 /**
@@ -46,7 +50,8 @@ import java.util.List;
  * fill the empty gaps caused in masonry layoutMode.
  *
  *
- * <b>Note:</b> children that doesn't fit in the grid will be hidden.
+ * <b>Note:</b> children that doesn't fit in the grid will be hidden, the grid rows are
+ * unbounded unless {@link #limitRowProperty()} is set.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -55,19 +60,33 @@ import java.util.List;
 public class JFXMasonryPane extends Pane {
 
     private boolean performingLayout = false;
-    // these variables are computed when layoutChildren is called
-    private int[][] matrix;
-    private HashMap<Region, Transition> animationMap = null;
-    private ParallelTransition trans = new ParallelTransition();
+    // number of columns used in the last layout, -1 if the layout must be recomputed
+    private int layoutColumns = -1;
+    private boolean childrenChanged = false;
+    // skyline of the masonry layout, it allows re-placing the children from the first changed one
+    private final Skyline skyline = new Skyline();
+    private boolean initialized = false;
+    // per child animators, retargeted on each layout and driven by a single transition
+    private final IdentityHashMap<Node, ChildAnimator> animators = new IdentityHashMap<>();
+    private final ArrayDeque<ChildAnimator> animatorsPool = new ArrayDeque<>();
+    private final ArrayList<ChildAnimator> runningAnimators = new ArrayList<>();
+    private final LayoutTransition layoutTransition = new LayoutTransition();
     private HashMap<Node, BoundingBox> boundingBoxes = new HashMap<>();
     private boolean dirtyBoxes = false;
 
     private final ListChangeListener<Node> childrenListener = change -> {
-        if (change.next()) {
+        while (change.next()) {
             // flag dirty boxes
             dirtyBoxes = true;
+            // recycle the animators of removed children
+            for (Node removed : change.getRemoved()) {
+                if (removed.getParent() != this) {
+                    releaseAnimator(removed);
+                }
+            }
         }
-        clearLayout();
+        // only the children after the first changed one are re-placed
+        childrenChanged = true;
         requestLayout();
     };
 
@@ -94,15 +113,10 @@ public class JFXMasonryPane extends Pane {
         col = (int) Math.floor((getWidth() + getHSpacing() - snappedLeftInset() - snappedRightInset()) / (getCellWidth() + getHSpacing()));
         col = getLimitColumn() != -1 && col > getLimitColumn() ? getLimitColumn() : col;
 
-        if (matrix != null && col == matrix[0].length) {
+        if (col == layoutColumns && !childrenChanged) {
             performingLayout = false;
             return;
         }
-        //(int) Math.floor(this.getHeight() / (cellH + 2*vSpacing));
-        row = 100;
-        row = getLimitRow() != -1 && row > getLimitRow() ? getLimitRow() : row;
-
-        matrix = new int[row][col];
         double minWidth = -1;
         double minHeight = -1;
 
@@ -118,15 +132,33 @@ public class JFXMasonryPane extends Pane {
         }
 
         // get bounding boxes layout
-        newBoxes = layoutMode.get().fillGrid(matrix, managedChildren,
-            getCellWidth(), getCellHeight(),
-            row, col,
-            getHSpacing(), getVSpacing());
+        final LayoutMode mode = layoutMode.get();
+        if (mode == LayoutMode.MASONRY) {
+            // incremental skyline layout, rows are only limited by the row limit
+            final int from = col == layoutColumns ? skyline.getFirstChangedIndex(managedChildren) : 0;
+            newBoxes = col <= 0 ? null : LayoutMode.MASONRY.fillSkyline(skyline, managedChildren, from,
+                getCellWidth(), getCellHeight(),
+                getLimitRow(), col,
+                getHSpacing(), getVSpacing());
+        } else {
+            // the grid is never taller than all the children stacked on top of each other
+            row = 0;
+            for (int i = 0; i < managedChildren.size(); i++) {
+                row += mode.getRowsNeeded(managedChildren.get(i), getCellHeight(), getVSpacing());
+            }
+            row = getLimitRow() != -1 && row > getLimitRow() ? getLimitRow() : row;
+            newBoxes = col <= 0 ? null : mode.fillGrid(new int[Math.max(row, 1)][col], managedChildren,
+                getCellWidth(), getCellHeight(),
+                row, col,
+                getHSpacing(), getVSpacing());
+        }
 
         if (newBoxes == null) {
             performingLayout = false;
             return;
         }
+        layoutColumns = col;
+        childrenChanged = false;
 
         HashMap<Node, BoundingBox> oldBoxes = boundingBoxes;
         if (dirtyBoxes) {
@@ -157,7 +189,7 @@ public class JFXMasonryPane extends Pane {
                     blockHeight = -1;
                 }
 
-                if (animationMap == null) {
+                if (!initialized) {
                     // init static children
                     child.setPrefSize(blockWidth, blockHeight);
                     child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
@@ -178,35 +210,10 @@ public class JFXMasonryPane extends Pane {
                             child.setPrefSize(blockWidth, blockHeight);
                             child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
                         }
-                        final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                            new KeyValue(child.opacityProperty(), 1, Interpolator.LINEAR),
-                            new KeyValue(child.layoutXProperty(), blockX, Interpolator.LINEAR),
-                            new KeyValue(child.layoutYProperty(), blockY, Interpolator.LINEAR));
-                        animationMap.put(child, new CachedTransition(child, new Timeline(keyFrame)) {{
-                            setCycleDuration(Duration.seconds(0.320));
-                            setDelay(Duration.seconds(0));
-                            setOnFinished((finish) -> {
-                                child.setLayoutX(blockX);
-                                child.setLayoutY(blockY);
-                                child.setOpacity(1);
-                            });
-                        }});
-
+                        retargetAnimator(child, blockX, blockY, 1);
                     } else {
                         // handle children is being hidden ( cause it can't fit in the pane )
-                        final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                            new KeyValue(child.opacityProperty(), 0, Interpolator.LINEAR),
-                            new KeyValue(child.layoutXProperty(), blockX, Interpolator.LINEAR),
-                            new KeyValue(child.layoutYProperty(), blockY, Interpolator.LINEAR));
-                        animationMap.put(child, new CachedTransition(child, new Timeline(keyFrame)) {{
-                            setCycleDuration(Duration.seconds(0.320));
-                            setDelay(Duration.seconds(0));
-                            setOnFinished((finish) -> {
-                                child.setLayoutX(blockX);
-                                child.setLayoutY(blockY);
-                                child.setOpacity(0);
-                            });
-                        }});
+                        retargetAnimator(child, blockX, blockY, 0);
                     }
                 }
 
@@ -228,19 +235,123 @@ public class JFXMasonryPane extends Pane {
             setPrefHeight(minHeight);
         }
 
-        if (animationMap == null) {
-            animationMap = new HashMap<>();
+        if (initialized) {
+            playAnimators();
         }
-
-        trans.stop();
-        ParallelTransition newTransition = new ParallelTransition();
-        newTransition.getChildren().addAll(animationMap.values());
-        newTransition.play();
-        trans = newTransition;
+        initialized = true;
         dirtyBoxes = false;
         performingLayout = false;
     }
 
+    private void retargetAnimator(Region child, double endX, double endY, double endOpacity) {
+        ChildAnimator animator = animators.get(child);
+        if ((animator == null || !animator.running)
+            && child.getLayoutX() == endX && child.getLayoutY() == endY && child.getOpacity() == endOpacity) {
+            // the child is already in place, e.g. it's before the first changed child
+            return;
+        }
+        if (animator == null) {
+            animator = animatorsPool.isEmpty() ? new ChildAnimator() : animatorsPool.poll();
+            animator.child = child;
+            animator.cacheMomento = new CacheMomento(child);
+            animators.put(child, animator);
+        }
+        animator.retarget(endX, endY, endOpacity);
+        if (!animator.running) {
+            animator.running = true;
+            runningAnimators.add(animator);
+        }
+    }
+
+    private void releaseAnimator(Node child) {
+        final ChildAnimator animator = animators.remove(child);
+        if (animator != null) {
+            if (animator.running) {
+                animator.running = false;
+                runningAnimators.remove(animator);
+                animator.cacheMomento.restore();
+            }
+            animator.child = null;
+            animator.cacheMomento = null;
+            animatorsPool.push(animator);
+        }
+    }
+
+    /**
+     * (re)starts the layout transition, running animators continue from their current values
+     */
+    private void playAnimators() {
+        layoutTransition.stop();
+        // children animations are shortened / skipped according to the animation policy
+        final Duration duration = JFXAnimationPolicy.scale(Duration.seconds(0.320));
+        if (duration.lessThanOrEqualTo(Duration.ZERO)) {
+            layoutTransition.interpolate(1);
+            finishAnimators();
+            return;
+        }
+        for (int i = 0, size = runningAnimators.size(); i < size; i++) {
+            runningAnimators.get(i).cacheMomento.cache();
+        }
+        layoutTransition.setDuration(duration);
+        layoutTransition.playFromStart();
+    }
+
+    private void finishAnimators() {
+        for (int i = 0, size = runningAnimators.size(); i < size; i++) {
+            final ChildAnimator animator = runningAnimators.get(i);
+            animator.running = false;
+            animator.cacheMomento.restore();
+        }
+        runningAnimators.clear();
+    }
+
+    /**
+     * single transition driving all the running child animators
+     */
+    private final class LayoutTransition extends Transition {
+        LayoutTransition() {
+            setInterpolator(Interpolator.LINEAR);
+            setOnFinished(finish -> finishAnimators());
+        }
+
+        void setDuration(Duration duration) {
+            setCycleDuration(duration);
+        }
+
+        @Override
+        protected void interpolate(double frac) {
+            for (int i = 0, size = runningAnimators.size(); i < size; i++) {
+                runningAnimators.get(i).interpolate(frac);
+            }
+        }
+    }
+
+    /**
+     * reusable animator of a child position / opacity
+     */
+    private static final class ChildAnimator {
+        private Region child;
+        private CacheMomento cacheMomento;
+        private boolean running = false;
+        private double startX, startY, startOpacity;
+        private double endX, endY, endOpacity;
+
+        private void retarget(double endX, double endY, double endOpacity) {
+            startX = child.getLayoutX();
+            startY = child.getLayoutY();
+            startOpacity = child.getOpacity();
+            this.endX = endX;
+            this.endY = endY;
+            this.endOpacity = endOpacity;
+        }
+
+        private void interpolate(double frac) {
+            child.setLayoutX(startX + (endX - startX) * frac);
+            child.setLayoutY(startY + (endY - startY) * frac);
+            child.setOpacity(startOpacity + (endOpacity - startOpacity) * frac);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -253,11 +364,12 @@ public class JFXMasonryPane extends Pane {
     }
 
     /**
-     * this method will clear the layout matrix forcing the bin packing algorithm
-     * to recompute the children boxes on the next layout pass
+     * this method will clear the layout forcing the layout algorithm
+     * to recompute all the children boxes on the next layout pass
      */
     public final void clearLayout() {
-        matrix = null;
+        layoutColumns = -1;
+        skyline.clear();
     }
 
 
@@ -499,19 +611,10 @@ public class JFXMasonryPane extends Pane {
          * @return
          */
         protected BoundingBox getFreeArea(int[][] matrix, int x, int y, Region block, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
-            double blockHeight = getBLockHeight(block);
-            double blockWidth = getBLockWidth(block);
-
-            int rowsNeeded = (int) Math.ceil(blockHeight / (cellHeight + gutterY));
-            if (cellHeight * rowsNeeded + (rowsNeeded - 1) * 2 * gutterY < blockHeight) {
-                rowsNeeded++;
-            }
+            int rowsNeeded = getRowsNeeded(block, cellHeight, gutterY);
             int maxRow = Math.min(x + rowsNeeded, limitRow);
 
-            int colsNeeded = (int) Math.ceil(blockWidth / (cellWidth + gutterX));
-            if (cellWidth * colsNeeded + (colsNeeded - 1) * 2 * gutterX < blockWidth) {
-                colsNeeded++;
-            }
+            int colsNeeded = getColsNeeded(block, cellWidth, gutterX);
             int maxCol = Math.min(y + colsNeeded, limitCol);
 
             int minRow = maxRow;
@@ -537,6 +640,30 @@ public class JFXMasonryPane extends Pane {
             return new BoundingBox(x, y, minCol - y, minRow - x);
         }
 
+        /**
+         * @return the number of grid rows needed to fit the block height
+         */
+        protected int getRowsNeeded(Region block, double cellHeight, double gutterY) {
+            double blockHeight = getBLockHeight(block);
+            int rowsNeeded = (int) Math.ceil(blockHeight / (cellHeight + gutterY));
+            if (cellHeight * rowsNeeded + (rowsNeeded - 1) * 2 * gutterY < blockHeight) {
+                rowsNeeded++;
+            }
+            return rowsNeeded;
+        }
+
+        /**
+         * @return the number of grid columns needed to fit the block width
+         */
+        protected int getColsNeeded(Region block, double cellWidth, double gutterX) {
+            double blockWidth = getBLockWidth(block);
+            int colsNeeded = (int) Math.ceil(blockWidth / (cellWidth + gutterX));
+            if (cellWidth * colsNeeded + (colsNeeded - 1) * 2 * gutterX < blockWidth) {
+                colsNeeded++;
+            }
+            return colsNeeded;
+        }
+
         protected double getBLockWidth(Region region) {
             if (region.getMinWidth() != -1) {
                 return region.getMinWidth();
@@ -617,55 +744,164 @@ public class JFXMasonryPane extends Pane {
             if (row <= 0) {
                 return null;
             }
-            int col = matrix[0].length;
-            List<BoundingBox> boxes = new ArrayList<>();
+            // the matrix is only used for its size, blocks are placed on a skyline
+            return fillSkyline(new Skyline(), children, 0,
+                cellWidth, cellHeight, row, matrix[0].length, gutterX, gutterY);
+        }
 
-            for (int b = 0; b < children.size(); b++) {
+        /**
+         * places the children starting from the specified index on the skyline, the boxes of the
+         * previous children are kept. each block is placed in O(columns) on the lowest position
+         * of the skyline that fits its columns, the leftmost one if there are multiple positions.
+         *
+         * @param limitRow rows limit, -1 for unbounded rows
+         * @return a copy of the boxes of all children, null boxes for children that can't fit in the grid,
+         * or null if there are no columns
+         */
+        List<BoundingBox> fillSkyline(Skyline skyline, List<Region> children, int from,
+                                      double cellWidth, double cellHeight, int limitRow, int limitCol,
+                                      double gutterX, double gutterY) {
+            if (limitCol <= 0) {
+                return null;
+            }
+            from = skyline.restore(from, cellWidth, cellHeight, limitRow, limitCol, gutterX, gutterY);
+            for (int b = from; b < children.size(); b++) {
                 Region block = children.get(b);
-                for (int i = 0; i < row; i++) {
-                    int old = boxes.size();
-                    for (int j = 0; j < col; j++) {
-                        if (matrix[i][j] != 0) {
-                            continue;
-                        }
+                skyline.saveSnapshot(b);
+                BoundingBox box = null;
+                int rowsNeeded = Math.max(1, getRowsNeeded(block, cellHeight, gutterY));
+                int colsNeeded = Math.max(1, getColsNeeded(block, cellWidth, gutterX));
+                if (colsNeeded <= limitCol) {
+                    int col = skyline.findLowestColumn(colsNeeded);
+                    int row = skyline.getTop(col, colsNeeded);
+                    if (limitRow == -1 || row + rowsNeeded <= limitRow) {
+                        skyline.raise(col, colsNeeded, row + rowsNeeded);
+                        box = new BoundingBox(row, col, colsNeeded, rowsNeeded);
+                    }
+                }
+                skyline.add(block, box);
+            }
+            return new ArrayList<>(skyline.boxes);
+        }
+    }
 
-                        // masonry condition
-                        boolean isValidCell = true;
-                        for (int k = i + 1; k < row; k++) {
-                            if (matrix[k][j] != 0) {
-                                isValidCell = false;
-                                break;
-                            }
-                        }
-                        if (!isValidCell) {
-                            continue;
-                        }
+    /**
+     * column heights of the masonry layout along with the placed children / boxes.
+     * the heights before placing each child are kept, so the layout can be
+     * resumed from any child without re-placing the previous ones.
+     */
+    private static final class Skyline {
+        private int columns = 0;
+        private int[] heights = new int[0];
+        private int[] window = new int[0];
+        // heights before placing child i are stored at [i * columns, (i + 1) * columns)
+        private int[] snapshots = new int[0];
+        private final ArrayList<Region> children = new ArrayList<>();
+        private final ArrayList<BoundingBox> boxes = new ArrayList<>();
+        private double cellWidth, cellHeight, gutterX, gutterY;
+        private int limitRow;
 
-                        BoundingBox box = getFreeArea(matrix,
-                            i, j, block, cellWidth, cellHeight,
-                            limitRow, limitCol, gutterX, gutterY);
-                        if (!validWidth(box, block, cellWidth, gutterX, gutterY)
-                            || !validHeight(box, block, cellHeight, gutterX, gutterY)) {
-                            continue;
-                        }
-                        matrix = fillMatrix(matrix,
-                            b + 1,
-                            box.getMinX(),
-                            box.getMinY(),
-                            box.getWidth(),
-                            box.getHeight());
-                        boxes.add(box);
-                        break;
-                    }
-                    if (boxes.size() != old) {
-                        break;
-                    }
-                    if (i == row - 1) {
-                        boxes.add(null);
-                    }
+        /**
+         * @return index of the first child that is not placed at the same index in the last layout
+         */
+        int getFirstChangedIndex(List<Region> newChildren) {
+            final int size = Math.min(children.size(), newChildren.size());
+            for (int i = 0; i < size; i++) {
+                if (children.get(i) != newChildren.get(i)) {
+                    return i;
                 }
             }
-            return boxes;
+            return size;
+        }
+
+        /**
+         * restores the skyline to its state before placing the child at the specified index,
+         * the skyline is reset if any of the layout parameters is changed
+         *
+         * @return the index to resume the layout from
+         */
+        int restore(int from, double cellWidth, double cellHeight, int limitRow, int columns,
+                    double gutterX, double gutterY) {
+            if (this.columns != columns || this.cellWidth != cellWidth || this.cellHeight != cellHeight
+                || this.limitRow != limitRow || this.gutterX != gutterX || this.gutterY != gutterY) {
+                clear();
+                this.columns = columns;
+                this.cellWidth = cellWidth;
+                this.cellHeight = cellHeight;
+                this.limitRow = limitRow;
+                this.gutterX = gutterX;
+                this.gutterY = gutterY;
+                heights = new int[columns];
+                window = new int[columns];
+                from = 0;
+            }
+            from = Math.max(0, Math.min(from, children.size()));
+            if (from < children.size()) {
+                System.arraycopy(snapshots, from * columns, heights, 0, columns);
+            }
+            for (int i = children.size() - 1; i >= from; i--) {
+                children.remove(i);
+                boxes.remove(i);
+            }
+            return from;
+        }
+
+        void saveSnapshot(int index) {
+            final int required = (index + 1) * columns;
+            if (snapshots.length < required) {
+                snapshots = Arrays.copyOf(snapshots, Math.max(required, snapshots.length * 2));
+            }
+            System.arraycopy(heights, 0, snapshots, index * columns, columns);
+        }
+
+        /**
+         * @return the leftmost column of the lowest position that fits the specified number of columns,
+         * computed using a sliding window maximum over the column heights
+         */
+        int findLowestColumn(int span) {
+            int bestTop = Integer.MAX_VALUE;
+            int bestCol = 0;
+            int head = 0;
+            int tail = 0;
+            for (int j = 0; j < columns; j++) {
+                while (tail > head && heights[window[tail - 1]] <= heights[j]) {
+                    tail--;
+                }
+                window[tail++] = j;
+                if (window[head] <= j - span) {
+                    head++;
+                }
+                if (j >= span - 1 && heights[window[head]] < bestTop) {
+                    bestTop = heights[window[head]];
+                    bestCol = j - span + 1;
+                }
+            }
+            return bestCol;
+        }
+
+        int getTop(int col, int span) {
+            int top = 0;
+            for (int j = col; j < col + span; j++) {
+                top = Math.max(top, heights[j]);
+            }
+            return top;
+        }
+
+        void raise(int col, int span, int height) {
+            for (int j = col; j < col + span; j++) {
+                heights[j] = height;
+            }
+        }
+
+        void add(Region child, BoundingBox box) {
+            children.add(child);
+            boxes.add(box);
+        }
+
+        void clear() {
+            columns = 0;
+            children.clear();
+            boxes.clear();
         }
     }
 
@@ -19,6 +19,7 @@
 
 package com.jfoenix.controls;
 
+import com.jfoenix.transitions.JFXAnimationPolicy;
 import javafx.animation.*;
 import javafx.animation.Animation.Status;
 import javafx.collections.ObservableList;
@@ -332,7 +333,9 @@ public class JFXNodesList extends VBox {
 
     private void createAnimation(boolean expanded, Timeline animation) {
         final ObservableList<Node> children = getChildren();
-        double duration = 160 / (double) children.size();
+        // the list animation is shortened / skipped according to the animation policy
+        final double totalDuration = JFXAnimationPolicy.scale(Duration.millis(160)).toMillis();
+        double duration = totalDuration / (double) children.size();
         // show child nodes
         if (expanded) {
             for (Node child : children) {
@@ -347,7 +350,7 @@ public class JFXNodesList extends VBox {
             animation.getKeyFrames().addAll(frames);
         }
         // add 1st element animation
-        Collection<KeyFrame> frames = animationsMap.get(children.get(0)).apply(expanded, Duration.millis(160));
+        Collection<KeyFrame> frames = animationsMap.get(children.get(0)).apply(expanded, Duration.millis(totalDuration));
         animation.getKeyFrames().addAll(frames);
 
         // hide child nodes to allow mouse events on the nodes behind them
@@ -20,6 +20,10 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.converters.RipplerMaskTypeConverter;
+import com.jfoenix.transitions.BakedInterpolator;
+import com.jfoenix.transitions.JFXAnimationPolicy;
+import com.jfoenix.transitions.JFXAnimationTimer;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import com.jfoenix.utils.JFXNodeUtils;
 import com.sun.javafx.css.converters.BooleanConverter;
 import com.sun.javafx.css.converters.PaintConverter;
@@ -30,11 +34,16 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.css.*;
 import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
 import javafx.scene.CacheHint;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.Border;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
@@ -72,6 +81,36 @@ public class JFXRippler extends StackPane {
         CIRCLE, RECT, FIT
     }
 
+    /**
+     * ripple rendering backend
+     * <p>
+     * NODES renders each ripple / overlay as a cached scene graph shape animated by its own timeline,
+     * CANVAS draws the ripples and the overlay onto a single canvas per rippler, all canvas ripplers
+     * are animated from the shared pulse of the JFoenix animation timers.
+     */
+    public enum RipplerRenderer {
+        NODES, CANVAS
+    }
+
+    private static RipplerRenderer defaultRenderer = RipplerRenderer.NODES;
+
+    /**
+     * @return the renderer used by ripplers that don't specify their own renderer
+     */
+    public static RipplerRenderer getDefaultRenderer() {
+        return defaultRenderer;
+    }
+
+    /**
+     * sets the renderer used by ripplers that don't specify their own renderer,
+     * it's applied to the ripples created after this call
+     *
+     * @param renderer the default renderer, null resets it to {@link RipplerRenderer#NODES}
+     */
+    public static void setDefaultRenderer(RipplerRenderer renderer) {
+        defaultRenderer = renderer == null ? RipplerRenderer.NODES : renderer;
+    }
+
     protected RippleGenerator rippler;
     protected Pane ripplerPane;
     protected Node control;
@@ -79,11 +118,14 @@ public class JFXRippler extends StackPane {
     protected static final double RIPPLE_MAX_RADIUS = 300;
 
     private boolean enabled = true;
+    private boolean cacheRipplerClip = false;
     private boolean forceOverlay = false;
-    private Interpolator rippleInterpolator = Interpolator.SPLINE(0.0825,
+    // the ripple spline is baked once and shared by all ripplers
+    private static final Interpolator RIPPLE_INTERPOLATOR = BakedInterpolator.bake(Interpolator.SPLINE(0.0825,
         0.3025,
         0.0875,
-        0.9975); //0.1, 0.54, 0.28, 0.95);
+        0.9975)); //0.1, 0.54, 0.28, 0.95);
+    private Interpolator rippleInterpolator = RIPPLE_INTERPOLATOR;
 
     /**
      * creates empty rippler node
@@ -133,11 +175,17 @@ public class JFXRippler extends StackPane {
 
         setMaskType(mask);
         setPosition(pos);
-        createRippleUI();
+        // the ripple nodes are created lazily on the first ripple / overlay request
         setControl(control);
 
         // listen to control position changed
         position.addListener(observable -> updateControlPosition());
+        renderer.addListener(observable -> {
+            if (rippler != null) {
+                rippler.clear();
+                resetClip();
+            }
+        });
 
         setPickOnBounds(false);
         setCache(true);
@@ -145,13 +193,53 @@ public class JFXRippler extends StackPane {
         setCacheShape(true);
     }
 
+    /**
+     * creates the ripple nodes and the control bounds listeners if they are not created yet.
+     * it's called on the first ripple / overlay request, so ripplers of controls that are never
+     * pressed or focused only cost the rippler node itself
+     */
     protected final void createRippleUI() {
+        if (rippler != null) {
+            return;
+        }
         // create rippler panels
         rippler = new RippleGenerator();
+        rippler.cacheRippleClip(cacheRipplerClip);
         ripplerPane = new StackPane();
         ripplerPane.setMouseTransparent(true);
         ripplerPane.getChildren().add(rippler);
         getChildren().add(ripplerPane);
+        updateControlPosition();
+        if (control != null) {
+            initControlBoundsListeners();
+        }
+    }
+
+    /**
+     * adds the control bounds listeners, called once the ripple nodes are created
+     */
+    protected void initControlBoundsListeners() {
+        // if the control got resized the overlay rect must be rest
+        control.layoutBoundsProperty().addListener(observable -> resetRippler());
+        if (getChildren().contains(control)) {
+            control.boundsInParentProperty().addListener(observable -> resetRippler());
+        }
+    }
+
+    /**
+     * removes all ripples and the overlay, does nothing if the ripple nodes are not created yet
+     */
+    void clearRipples() {
+        if (rippler != null) {
+            rippler.clear();
+        }
+    }
+
+    void cacheRippleClip(boolean cached) {
+        cacheRipplerClip = cached;
+        if (rippler != null) {
+            rippler.cacheRippleClip(cached);
+        }
     }
 
     /***************************************************************************
@@ -167,6 +255,10 @@ public class JFXRippler extends StackPane {
             positionControl(control);
             // add control listeners to generate / release ripples
             initControlListeners();
+            // the bounds listeners are only added here if the ripple nodes were created before the control is set
+            if (rippler != null) {
+                initControlBoundsListeners();
+            }
         }
     }
 
@@ -180,6 +272,9 @@ public class JFXRippler extends StackPane {
     }
 
     protected void updateControlPosition() {
+        if (ripplerPane == null) {
+            return;
+        }
         if (this.position.get() == RipplerPos.BACK) {
             ripplerPane.toBack();
         } else {
@@ -265,10 +360,7 @@ public class JFXRippler extends StackPane {
      * init mouse listeners on the control
      */
     protected void initControlListeners() {
-        // if the control got resized the overlay rect must be rest
-        control.layoutBoundsProperty().addListener(observable -> resetRippler());
-        if(getChildren().contains(control))
-            control.boundsInParentProperty().addListener(observable -> resetRippler());
+        // bounds listeners are added once the ripple nodes are created
         control.addEventHandler(MouseEvent.MOUSE_PRESSED,
             (event) -> createRipple(event.getX(), event.getY()));
         // create fade out transition for the ripple
@@ -280,6 +372,7 @@ public class JFXRippler extends StackPane {
      */
     protected void createRipple(double x, double y) {
         if(!isRipplerDisabled()) {
+            createRippleUI();
             rippler.setGeneratorCenterX(x);
             rippler.setGeneratorCenterY(y);
             rippler.createRipple();
@@ -287,7 +380,9 @@ public class JFXRippler extends StackPane {
     }
 
     protected void releaseRipple() {
-        rippler.releaseRipple();
+        if (rippler != null) {
+            rippler.releaseRipple();
+        }
     }
 
     /**
@@ -296,6 +391,7 @@ public class JFXRippler extends StackPane {
      */
     public Runnable createManualRipple() {
         if(!isRipplerDisabled()) {
+            createRippleUI();
             rippler.setGeneratorCenterX(control.getLayoutBounds().getWidth() / 2);
             rippler.setGeneratorCenterY(control.getLayoutBounds().getHeight() / 2);
             rippler.createRipple();
@@ -337,21 +433,32 @@ public class JFXRippler extends StackPane {
      */
     @Deprecated
     public void showOverlay() {
+        createRippleUI();
+        if (rippler.isCanvasRendered()) {
+            rippler.showCanvasOverlay();
+            return;
+        }
         if (rippler.overlayRect != null) {
             rippler.overlayRect.outAnimation.stop();
         }
         rippler.createOverlay();
-        rippler.overlayRect.inAnimation.play();
+        rippler.overlayRect.fadeIn();
     }
 
     @Deprecated
     public void hideOverlay() {
         if(!forceOverlay){
+            if (rippler == null) {
+                return;
+            }
+            if (rippler.canvas != null) {
+                rippler.canvas.setOverlayVisible(false);
+            }
             if (rippler.overlayRect != null) {
                 rippler.overlayRect.inAnimation.stop();
             }
             if (rippler.overlayRect != null) {
-                rippler.overlayRect.outAnimation.play();
+                rippler.overlayRect.fadeOut();
             }
         }else{
             System.err.println("Ripple Overlay is forced!");
@@ -371,7 +478,21 @@ public class JFXRippler extends StackPane {
         private AtomicBoolean generating = new AtomicBoolean(false);
         private boolean cacheRipplerClip = false;
         private boolean resetClip = false;
-        private Queue<Ripple> ripplesQueue = new LinkedList<Ripple>();
+        private Queue<Ripple> ripplesQueue = new ArrayDeque<>();
+        // finished ripples are kept (hidden) in the generator and reused by the next press
+        private final Deque<Ripple> ripplePool = new ArrayDeque<>();
+        private int activeRipples = 0;
+        private RippleCanvas canvas;
+
+        // the values the current clip was computed from, the clip is only rebuilt if any of them changes
+        private RipplerMask clipMaskType;
+        private Bounds clipControlLayoutBounds;
+        private Bounds clipControlParentBounds;
+        private Bounds clipRipplerBounds;
+        private Insets clipRipplerInsets;
+        private Border clipRipplerBorder;
+        private Background clipControlBackground;
+        private Shape clipControlShape;
 
         RippleGenerator() {
             // improve in performance, by preventing
@@ -382,47 +503,128 @@ public class JFXRippler extends StackPane {
         }
 
         void createRipple() {
-            if (enabled) {
+            // ripples are decorative, they are skipped if animations are not allowed
+            if (enabled && JFXAnimationPolicy.isAnimationAllowed()) {
                 if (!generating.getAndSet(true)) {
-                    // create overlay once then change its color later
-                    createOverlay();
-                    if (this.getClip() == null || (getChildren().size() == 1 && !cacheRipplerClip) || resetClip) {
-                        this.setClip(getMask());
+                    final boolean canvasRendered = isCanvasRendered();
+                    if (!canvasRendered) {
+                        // create overlay once then change its color later
+                        createOverlay();
+                    }
+                    if (this.getClip() == null || (!hasActiveRipples() && !cacheRipplerClip) || resetClip) {
+                        updateClip();
                     }
                     this.resetClip = false;
 
+                    if (canvasRendered) {
+                        getCanvas().createRipple(generatorCenterX, generatorCenterY);
+                        return;
+                    }
+
                     // create the ripple effect
-                    final Ripple ripple = new Ripple(generatorCenterX, generatorCenterY);
-                    getChildren().add(ripple);
+                    final Ripple ripple = obtainRipple();
                     ripplesQueue.add(ripple);
 
                     // animate the ripple
                     overlayRect.outAnimation.stop();
-                    overlayRect.inAnimation.play();
-                    ripple.inAnimation.play();
+                    overlayRect.fadeIn();
+                    ripple.playIn(generatorCenterX, generatorCenterY);
                 }
             }
         }
 
         private void releaseRipple() {
+            if (canvas != null && canvas.releaseRipple()) {
+                if (generating.getAndSet(false) && !forceOverlay) {
+                    canvas.setOverlayVisible(false);
+                }
+                return;
+            }
             Ripple ripple = ripplesQueue.poll();
             if(ripple!=null) {
-                ripple.inAnimation.stop();
-                ripple.outAnimation = new Timeline(
-                    new KeyFrame(Duration.millis(Math.min(800, (0.9 * 500) / ripple.getScaleX()))
-                        , ripple.outKeyValues));
-                ripple.outAnimation.setOnFinished((event) -> getChildren().remove(ripple));
-                ripple.outAnimation.play();
+                ripple.playOut();
                 if (generating.getAndSet(false)) {
                     if (overlayRect != null) {
                         overlayRect.inAnimation.stop();
                         if (!forceOverlay)
-                            overlayRect.outAnimation.play();
+                            overlayRect.fadeOut();
                     }
                 }
             }
         }
 
+        boolean isCanvasRendered() {
+            return getRenderer() == RipplerRenderer.CANVAS;
+        }
+
+        RippleCanvas getCanvas() {
+            if (canvas == null) {
+                canvas = new RippleCanvas();
+                getChildren().add(canvas);
+                // the canvas is redrawn on each frame, caching the generator would only add
+                // a bitmap invalidation per frame
+                setCache(false);
+            }
+            return canvas;
+        }
+
+        void showCanvasOverlay() {
+            // the canvas overlay is clipped by the generator mask
+            if (getClip() == null || resetClip) {
+                updateClip();
+                resetClip = false;
+            }
+            getCanvas().setOverlayVisible(true);
+        }
+
+        private boolean hasActiveRipples() {
+            return activeRipples != 0 || (canvas != null && !canvas.ripples.isEmpty());
+        }
+
+        private Ripple obtainRipple() {
+            Ripple ripple = ripplePool.poll();
+            if (ripple == null) {
+                ripple = new Ripple();
+                getChildren().add(ripple);
+            }
+            activeRipples++;
+            return ripple;
+        }
+
+        private void recycleRipple(Ripple ripple) {
+            ripple.setVisible(false);
+            activeRipples--;
+            ripplePool.push(ripple);
+        }
+
+        /**
+         * rebuilds the clip using {@link #getMask()} only if the mask type or
+         * any of the bounds it depends on has changed since the last build
+         */
+        private void updateClip() {
+            final Background controlBackground = control instanceof Region ? ((Region) control).getBackground() : null;
+            final Shape controlShape = control instanceof Region ? ((Region) control).getShape() : null;
+            if (getClip() == null
+                || clipMaskType != getMaskType()
+                || !control.getLayoutBounds().equals(clipControlLayoutBounds)
+                || !control.getBoundsInParent().equals(clipControlParentBounds)
+                || !JFXRippler.this.getLayoutBounds().equals(clipRipplerBounds)
+                || !JFXRippler.this.getInsets().equals(clipRipplerInsets)
+                || ripplerPane.getBorder() != clipRipplerBorder
+                || controlBackground != clipControlBackground
+                || controlShape != clipControlShape) {
+                setClip(getMask());
+                clipMaskType = getMaskType();
+                clipControlLayoutBounds = control.getLayoutBounds();
+                clipControlParentBounds = control.getBoundsInParent();
+                clipRipplerBounds = JFXRippler.this.getLayoutBounds();
+                clipRipplerInsets = JFXRippler.this.getInsets();
+                clipRipplerBorder = ripplerPane.getBorder();
+                clipControlBackground = controlBackground;
+                clipControlShape = controlShape;
+            }
+        }
+
         void cacheRippleClip(boolean cached) {
             cacheRipplerClip = cached;
         }
@@ -479,100 +681,462 @@ public class JFXRippler extends StackPane {
                 setCacheShape(true);
                 setManaged(false);
             }
+
+            void fadeIn() {
+                JFXAnimationMetrics.track(inAnimation, "JFXRippler.OverlayIn", control);
+                inAnimation.play();
+            }
+
+            void fadeOut() {
+                JFXAnimationMetrics.track(outAnimation, "JFXRippler.OverlayOut", control);
+                outAnimation.play();
+            }
         }
 
         private final class Ripple extends Circle {
 
-            KeyValue[] outKeyValues;
-            Animation outAnimation = null;
-            Animation inAnimation = null;
+            final RippleTransition inAnimation = new RippleTransition();
+            final RippleTransition outAnimation = new RippleTransition();
+            private Paint sourceFill;
 
-            private Ripple(double centerX, double centerY) {
-                super(centerX,
-                    centerY,
-                    ripplerRadius.get().doubleValue() == Region.USE_COMPUTED_SIZE ?
-                        computeRippleRadius() : ripplerRadius.get().doubleValue(), null);
+            private Ripple() {
                 setCache(true);
                 setCacheHint(CacheHint.SPEED);
                 setCacheShape(true);
                 setManaged(false);
                 setSmooth(true);
+                inAnimation.setDuration(900);
+                outAnimation.setOnFinished(event -> recycleRipple(this));
+            }
 
-                KeyValue[] inKeyValues = new KeyValue[isRipplerRecenter() ? 4 : 2];
-                outKeyValues = new KeyValue[isRipplerRecenter() ? 5 : 3];
+            void playIn(double centerX, double centerY) {
+                setCenterX(centerX);
+                setCenterY(centerY);
+                setRadius(ripplerRadius.get().doubleValue() == Region.USE_COMPUTED_SIZE ?
+                    computeRippleRadius() : ripplerRadius.get().doubleValue());
+                updateFill();
 
-                inKeyValues[0] = new KeyValue(scaleXProperty(), 0.9, rippleInterpolator);
-                inKeyValues[1] = new KeyValue(scaleYProperty(), 0.9, rippleInterpolator);
+                double translateX = 0;
+                double translateY = 0;
+                if (isRipplerRecenter()) {
+                    double dx = (control.getLayoutBounds().getWidth() / 2 - centerX) / 1.55;
+                    double dy = (control.getLayoutBounds().getHeight() / 2 - centerY) / 1.55;
+                    translateX = Math.signum(dx) * Math.min(Math.abs(dx), this.getRadius() / 2);
+                    translateY = Math.signum(dy) * Math.min(Math.abs(dy), this.getRadius() / 2);
+                }
+                inAnimation.setValues(0, 0.9, 0, translateX, 0, translateY, 1, 1);
+                outAnimation.setValues(0, 1, 0, translateX, 0, translateY, 1, 0);
+                setScaleX(0);
+                setScaleY(0);
+                setTranslateX(0);
+                setTranslateY(0);
+                setOpacity(1);
+                setVisible(true);
+                JFXAnimationMetrics.track(inAnimation, "JFXRippler.RippleIn", control);
+                inAnimation.playFromStart();
+            }
+
+            void playOut() {
+                inAnimation.stop();
+                // fade out from wherever the in animation has stopped
+                outAnimation.setStartValues(getScaleX(), getTranslateX(), getTranslateY(), getOpacity());
+                outAnimation.setDuration(Math.min(800, (0.9 * 500) / getScaleX()));
+                JFXAnimationMetrics.track(outAnimation, "JFXRippler.RippleOut", control);
+                outAnimation.playFromStart();
+            }
 
-                outKeyValues[0] = new KeyValue(this.scaleXProperty(), 1, rippleInterpolator);
-                outKeyValues[1] = new KeyValue(this.scaleYProperty(), 1, rippleInterpolator);
-                outKeyValues[2] = new KeyValue(this.opacityProperty(), 0, rippleInterpolator);
+            private void updateFill() {
+                final Paint fill = ripplerFill.get();
+                if (sourceFill != fill) {
+                    sourceFill = fill;
+                    if (fill instanceof Color) {
+                        Color circleColor = new Color(((Color) fill).getRed(),
+                            ((Color) fill).getGreen(),
+                            ((Color) fill).getBlue(),
+                            0.3);
+                        setStroke(circleColor);
+                        setFill(circleColor);
+                    } else {
+                        setStroke(fill);
+                        setFill(fill);
+                    }
+                }
+            }
+
+            /**
+             * reusable ripple animation, it interpolates primitive start / end values
+             * so replaying it for a new press doesn't allocate new key frames
+             */
+            private final class RippleTransition extends Transition {
+                private double startScale, endScale;
+                private double startTranslateX, endTranslateX;
+                private double startTranslateY, endTranslateY;
+                private double startOpacity, endOpacity;
+
+                RippleTransition() {
+                    setInterpolator(rippleInterpolator);
+                }
+
+                void setDuration(double millis) {
+                    // only allocate a new duration if it's changed
+                    if (getCycleDuration().toMillis() != millis) {
+                        setCycleDuration(Duration.millis(millis));
+                    }
+                }
 
+                void setValues(double startScale, double endScale,
+                               double startTranslateX, double endTranslateX,
+                               double startTranslateY, double endTranslateY,
+                               double startOpacity, double endOpacity) {
+                    this.startScale = startScale;
+                    this.endScale = endScale;
+                    this.startTranslateX = startTranslateX;
+                    this.endTranslateX = endTranslateX;
+                    this.startTranslateY = startTranslateY;
+                    this.endTranslateY = endTranslateY;
+                    this.startOpacity = startOpacity;
+                    this.endOpacity = endOpacity;
+                }
+
+                void setStartValues(double scale, double translateX, double translateY, double opacity) {
+                    this.startScale = scale;
+                    this.startTranslateX = translateX;
+                    this.startTranslateY = translateY;
+                    this.startOpacity = opacity;
+                }
+
+                @Override
+                protected void interpolate(double frac) {
+                    final double scale = startScale + (endScale - startScale) * frac;
+                    setScaleX(scale);
+                    setScaleY(scale);
+                    setTranslateX(startTranslateX + (endTranslateX - startTranslateX) * frac);
+                    setTranslateY(startTranslateY + (endTranslateY - startTranslateY) * frac);
+                    setOpacity(startOpacity + (endOpacity - startOpacity) * frac);
+                }
+            }
+        }
+
+        /**
+         * draws the ripples and the overlay of the generator, it uses the same
+         * timings / interpolators of the node ripples and is clipped by the same mask
+         */
+        final class RippleCanvas extends Canvas {
+            private final ArrayList<CanvasRipple> ripples = new ArrayList<>();
+            private final ArrayDeque<CanvasRipple> ripplePool = new ArrayDeque<>();
+            // used to query the overlay bounds, as it can be customized by overriding setOverLayBounds
+            private final Rectangle overlayBounds = new Rectangle();
+            private CanvasRipple pressedRipple;
+            private Paint sourceFill;
+            private Paint rippleFill;
+            private Paint overlayFill;
+            private double overlayOpacity = 0;
+            private double overlayStartOpacity = 0;
+            private boolean overlayVisible = false;
+            private long overlayStartTime = -1;
+            private double overlayDuration = OVERLAY_DURATION;
+            private final CanvasTimer timer = new CanvasTimer(this);
+
+            RippleCanvas() {
+                setManaged(false);
+                setMouseTransparent(true);
+            }
+
+            void createRipple(double centerX, double centerY) {
+                updateFill();
+                CanvasRipple ripple = ripplePool.poll();
+                if (ripple == null) {
+                    ripple = new CanvasRipple();
+                }
+                final double radius = ripplerRadius.get().doubleValue() == Region.USE_COMPUTED_SIZE ?
+                    computeRippleRadius() : ripplerRadius.get().doubleValue();
+                double translateX = 0;
+                double translateY = 0;
                 if (isRipplerRecenter()) {
                     double dx = (control.getLayoutBounds().getWidth() / 2 - centerX) / 1.55;
                     double dy = (control.getLayoutBounds().getHeight() / 2 - centerY) / 1.55;
-                    inKeyValues[2] = outKeyValues[3] = new KeyValue(translateXProperty(),
-                        Math.signum(dx) * Math.min(Math.abs(dx),
-                            this.getRadius() / 2),
-                        rippleInterpolator);
-                    inKeyValues[3] = outKeyValues[4] = new KeyValue(translateYProperty(),
-                        Math.signum(dy) * Math.min(Math.abs(dy),
-                            this.getRadius() / 2),
-                        rippleInterpolator);
-                }
-                inAnimation = new Timeline(new KeyFrame(Duration.ZERO,
-                    new KeyValue(scaleXProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(scaleYProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(translateXProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(translateYProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(opacityProperty(),
-                        1,
-                        rippleInterpolator)
-                ), new KeyFrame(Duration.millis(900), inKeyValues));
+                    translateX = Math.signum(dx) * Math.min(Math.abs(dx), radius / 2);
+                    translateY = Math.signum(dy) * Math.min(Math.abs(dy), radius / 2);
+                }
+                ripple.start(centerX, centerY, radius, translateX, translateY, System.nanoTime(),
+                    JFXAnimationPolicy.getDurationScale());
+                ripples.add(ripple);
+                pressedRipple = ripple;
+                setOverlayVisible(true);
+            }
 
-                setScaleX(0);
-                setScaleY(0);
-                if (ripplerFill.get() instanceof Color) {
-                    Color circleColor = new Color(((Color) ripplerFill.get()).getRed(),
-                        ((Color) ripplerFill.get()).getGreen(),
-                        ((Color) ripplerFill.get()).getBlue(),
-                        0.3);
-                    setStroke(circleColor);
-                    setFill(circleColor);
-                } else {
-                    setStroke(ripplerFill.get());
-                    setFill(ripplerFill.get());
+            /**
+             * @return true if there was a pressed ripple to release
+             */
+            boolean releaseRipple() {
+                if (pressedRipple == null) {
+                    return false;
+                }
+                pressedRipple.release(System.nanoTime(), rippleInterpolator, JFXAnimationPolicy.getDurationScale());
+                pressedRipple = null;
+                schedule();
+                return true;
+            }
+
+            void setOverlayVisible(boolean visible) {
+                updateFill();
+                if (overlayVisible != visible) {
+                    overlayVisible = visible;
+                    overlayStartOpacity = overlayOpacity;
+                    overlayStartTime = System.nanoTime();
+                    overlayDuration = OVERLAY_DURATION * JFXAnimationPolicy.getDurationScale();
+                }
+                schedule();
+            }
+
+            /**
+             * redraw the canvas starting from the next pulse until it stops animating
+             */
+            void schedule() {
+                if (!timer.isRunning()) {
+                    timer.start();
+                }
+            }
+
+            private void updateFill() {
+                final Paint fill = ripplerFill.get();
+                if (sourceFill != fill) {
+                    sourceFill = fill;
+                    if (fill instanceof Color) {
+                        final Color color = (Color) fill;
+                        rippleFill = new Color(color.getRed(), color.getGreen(), color.getBlue(), 0.3);
+                        overlayFill = new Color(color.getRed(), color.getGreen(), color.getBlue(), 0.2);
+                    } else {
+                        rippleFill = fill;
+                        overlayFill = Color.TRANSPARENT;
+                    }
+                }
+            }
+
+            /**
+             * draws the current frame
+             *
+             * @return true if the canvas needs to be redrawn on the next pulse
+             */
+            boolean render(long now) {
+                boolean animating = false;
+
+                // same bounds as the node overlay
+                setOverLayBounds(overlayBounds);
+                final double width = overlayBounds.getWidth();
+                final double height = overlayBounds.getHeight();
+                double originX = 0;
+                double originY = 0;
+                if (JFXRippler.this.getChildrenUnmodifiable().contains(control)) {
+                    double diffMinX = Math.abs(control.getBoundsInLocal().getMinX() - control.getLayoutBounds().getMinX());
+                    double diffMinY = Math.abs(control.getBoundsInLocal().getMinY() - control.getLayoutBounds().getMinY());
+                    Bounds bounds = control.getBoundsInParent();
+                    originX = bounds.getMinX() + diffMinX - snappedLeftInset();
+                    originY = bounds.getMinY() + diffMinY - snappedTopInset();
+                }
+                if (getWidth() != width) {
+                    setWidth(width);
+                }
+                if (getHeight() != height) {
+                    setHeight(height);
+                }
+                setLayoutX(originX);
+                setLayoutY(originY);
+
+                final GraphicsContext gc = getGraphicsContext2D();
+                gc.clearRect(0, 0, width, height);
+
+                // overlay, same timings as the node overlay animations
+                if (overlayStartTime >= 0) {
+                    final double frac = fraction(now - overlayStartTime, overlayDuration);
+                    if (overlayVisible) {
+                        overlayOpacity = Interpolator.EASE_IN.interpolate(overlayStartOpacity, 1, frac);
+                    } else {
+                        overlayOpacity = Interpolator.EASE_OUT.interpolate(overlayStartOpacity, 0, frac);
+                    }
+                    if (frac >= 1) {
+                        overlayStartTime = -1;
+                    } else {
+                        animating = true;
+                    }
+                }
+                if (overlayOpacity > 0) {
+                    gc.setGlobalAlpha(overlayOpacity);
+                    gc.setFill(overlayFill);
+                    gc.fillRect(0, 0, width, height);
+                }
+
+                // ripples, finished ripples are returned to the pool
+                gc.setFill(rippleFill);
+                int alive = 0;
+                for (int i = 0; i < ripples.size(); i++) {
+                    final CanvasRipple ripple = ripples.get(i);
+                    final boolean rippleAnimating = ripple.update(now, rippleInterpolator);
+                    if (ripple.opacity > 0) {
+                        final double radius = ripple.radius * ripple.scale;
+                        gc.setGlobalAlpha(ripple.opacity);
+                        gc.fillOval(ripple.centerX + ripple.translateX - originX - radius,
+                            ripple.centerY + ripple.translateY - originY - radius,
+                            radius * 2,
+                            radius * 2);
+                    }
+                    if (rippleAnimating || !ripple.released) {
+                        ripples.set(alive++, ripple);
+                        animating |= rippleAnimating;
+                    } else {
+                        ripplePool.push(ripple);
+                    }
                 }
+                for (int i = ripples.size() - 1; i >= alive; i--) {
+                    ripples.remove(i);
+                }
+                gc.setGlobalAlpha(1);
+                return animating;
+            }
+
+            void dispose() {
+                if (timer.isRunning()) {
+                    timer.stop();
+                }
+                ripples.clear();
+                ripplePool.clear();
+                pressedRipple = null;
             }
         }
 
         public void clear() {
+            for (Node child : getChildren()) {
+                if (child instanceof Ripple) {
+                    ((Ripple) child).inAnimation.stop();
+                    ((Ripple) child).outAnimation.stop();
+                }
+            }
+            ripplesQueue.clear();
+            ripplePool.clear();
+            activeRipples = 0;
+            if (canvas != null) {
+                canvas.dispose();
+                canvas = null;
+                setCache(true);
+            }
             getChildren().clear();
             rippler.overlayRect = null;
             generating.set(false);
         }
     }
 
+    private static final double OVERLAY_DURATION = 300_000_000.0;
+    private static final double RIPPLE_IN_DURATION = 900_000_000.0;
+
+    /**
+     * @return the fraction of the elapsed time, durations scaled to 0 by the animation policy end immediately
+     */
+    private static double fraction(long elapsed, double duration) {
+        return duration <= 0 ? 1 : Math.min(1, elapsed / duration);
+    }
+
+    /**
+     * primitive state of a canvas ripple, it's reused for the next press once it fades out
+     */
+    private static final class CanvasRipple {
+        double centerX, centerY, radius;
+        double targetTranslateX, targetTranslateY;
+        double scale, translateX, translateY, opacity;
+        boolean released;
+        private long startTime;
+        private double inDuration;
+        private double outDuration;
+        private double startScale, startTranslateX, startTranslateY, startOpacity;
+
+        void start(double centerX, double centerY, double radius,
+                   double targetTranslateX, double targetTranslateY, long now, double durationScale) {
+            this.centerX = centerX;
+            this.centerY = centerY;
+            this.radius = radius;
+            this.targetTranslateX = targetTranslateX;
+            this.targetTranslateY = targetTranslateY;
+            this.startTime = now;
+            this.inDuration = RIPPLE_IN_DURATION * durationScale;
+            this.released = false;
+            this.scale = 0;
+            this.translateX = 0;
+            this.translateY = 0;
+            this.opacity = 1;
+        }
+
+        void release(long now, Interpolator interpolator, double durationScale) {
+            update(now, interpolator);
+            released = true;
+            startTime = now;
+            startScale = scale;
+            startTranslateX = translateX;
+            startTranslateY = translateY;
+            startOpacity = opacity;
+            outDuration = Math.min(800, (0.9 * 500) / scale) * 1_000_000.0 * durationScale;
+        }
+
+        /**
+         * @return true if the ripple is still animating
+         */
+        boolean update(long now, Interpolator interpolator) {
+            if (!released) {
+                final double frac = fraction(now - startTime, inDuration);
+                final double value = interpolator.interpolate(0.0, 1.0, frac);
+                scale = 0.9 * value;
+                translateX = targetTranslateX * value;
+                translateY = targetTranslateY * value;
+                return frac < 1;
+            }
+            final double frac = fraction(now - startTime, outDuration);
+            final double value = interpolator.interpolate(0.0, 1.0, frac);
+            scale = startScale + (1 - startScale) * value;
+            translateX = startTranslateX + (targetTranslateX - startTranslateX) * value;
+            translateY = startTranslateY + (targetTranslateY - startTranslateY) * value;
+            opacity = startOpacity * (1 - value);
+            return frac < 1;
+        }
+    }
+
+    /**
+     * redraws an animating ripple canvas, canvas timers are pulsed by the shared animation
+     * scheduler and are accounted by the animation policy / metrics like the other JFoenix timers
+     */
+    private static final class CanvasTimer extends JFXAnimationTimer {
+        private final RippleGenerator.RippleCanvas canvas;
+
+        private CanvasTimer(RippleGenerator.RippleCanvas canvas) {
+            this.canvas = canvas;
+        }
+
+        @Override
+        public void handle(long now) {
+            if (!canvas.render(now)) {
+                stop();
+            }
+        }
+    }
+
     private void resetOverLay() {
+        if (rippler == null) {
+            return;
+        }
+        if (rippler.canvas != null) {
+            // the canvas is resized on the next frame
+            rippler.canvas.schedule();
+        }
         if (rippler.overlayRect != null) {
             rippler.overlayRect.inAnimation.stop();
             final RippleGenerator.OverLayRipple oldOverlay = rippler.overlayRect;
             rippler.overlayRect.outAnimation.setOnFinished((finish) -> rippler.getChildren().remove(oldOverlay));
-            rippler.overlayRect.outAnimation.play();
+            rippler.overlayRect.fadeOut();
             rippler.overlayRect = null;
         }
     }
 
     private void resetClip() {
-        this.rippler.resetClip = true;
+        if (this.rippler != null) {
+            this.rippler.resetClip = true;
+        }
     }
 
     protected void resetRippler() {
@@ -726,6 +1290,26 @@ public class JFXRippler extends StackPane {
         return this.position;
     }
 
+    /**
+     * the ripple rendering backend, if null the {@link #getDefaultRenderer() default renderer} is used
+     */
+    private ObjectProperty<RipplerRenderer> renderer = new SimpleObjectProperty<>(this, "renderer");
+
+    public final ObjectProperty<RipplerRenderer> rendererProperty() {
+        return this.renderer;
+    }
+
+    /**
+     * @return the renderer of this rippler, or the default renderer if it's not set
+     */
+    public final RipplerRenderer getRenderer() {
+        return renderer.get() == null ? defaultRenderer : renderer.get();
+    }
+
+    public final void setRenderer(RipplerRenderer renderer) {
+        this.renderer.set(renderer);
+    }
+
 
     private static final class StyleableProperties {
         private static final CssMetaData<JFXRippler, Boolean> RIPPLER_RECENTER =
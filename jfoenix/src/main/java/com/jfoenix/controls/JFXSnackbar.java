@@ -20,6 +20,7 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.controls.JFXButton.ButtonType;
+import com.jfoenix.transitions.BakedInterpolator;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -66,7 +67,8 @@ public class JFXSnackbar extends Group {
     private ConcurrentLinkedQueue<SnackbarEvent> eventQueue = new ConcurrentLinkedQueue<>();
     private StackPane actionContainer;
 
-    private Interpolator easeInterpolator = Interpolator.SPLINE(0.250, 0.100, 0.250, 1.000);
+    private static final Interpolator EASE_INTERPOLATOR = BakedInterpolator.bake(Interpolator.SPLINE(0.250, 0.100, 0.250, 1.000));
+    private Interpolator easeInterpolator = EASE_INTERPOLATOR;
     private BorderPane content;
     private String activePseudoClass = null;
 
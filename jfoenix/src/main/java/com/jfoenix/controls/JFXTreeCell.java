@@ -41,7 +41,9 @@ import java.lang.ref.WeakReference;
  */
 public class JFXTreeCell<T> extends TreeCell<T> {
 
-    protected JFXRippler cellRippler = new JFXRippler(this){
+    // the rippler is added to the cell on the first press, it's never
+    // added if the tree view uses a shared ripple layer
+    protected JFXRippler cellRippler = new JFXRippler(){
         @Override
         protected Node getMask() {
             Region clip = new Region();
@@ -66,6 +68,7 @@ public class JFXTreeCell<T> extends TreeCell<T> {
         treeItemGraphicInvalidationListener);
 
     private WeakReference<TreeItem<T>> treeItemRef;
+    private boolean cellRipplerAttached = false;
 
     public JFXTreeCell() {
 
@@ -92,18 +95,42 @@ public class JFXTreeCell<T> extends TreeCell<T> {
         if (getTreeItem() != null) {
             getTreeItem().graphicProperty().addListener(weakTreeItemGraphicListener);
         }
+        addEventFilter(MouseEvent.MOUSE_PRESSED, event -> attachRippler());
+    }
+
+    /**
+     * adds the cell rippler on the first press, the rippler registers its own press handler
+     * on the cell which is still invoked for the current press
+     */
+    private void attachRippler() {
+        if (!cellRipplerAttached && !isSharedRipple()) {
+            cellRipplerAttached = true;
+            if (cellRippler.getControl() == null) {
+                cellRippler.setControl(this);
+            }
+            getChildren().add(getChildren().contains(selectedPane) ? 1 : 0, cellRippler);
+            cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
+        }
+    }
+
+    private boolean isSharedRipple() {
+        return getTreeView() instanceof JFXTreeView && ((JFXTreeView<?>) getTreeView()).isSharedRippleLayer();
     }
 
     @Override
     protected void layoutChildren() {
         super.layoutChildren();
         if (!getChildren().contains(selectedPane)) {
-            getChildren().add(0, cellRippler);
-            cellRippler.rippler.clear();
             getChildren().add(0, selectedPane);
         }
-        cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
-        cellRippler.releaseRipple();
+        if (cellRipplerAttached) {
+            if (!getChildren().contains(cellRippler)) {
+                getChildren().add(1, cellRippler);
+                cellRippler.clearRipples();
+            }
+            cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
+            cellRippler.releaseRipple();
+        }
         selectedPane.resizeRelocate(0, 0, selectedPane.prefWidth(-1), getHeight());
         selectedPane.setVisible(isSelected() ? true : false);
     }
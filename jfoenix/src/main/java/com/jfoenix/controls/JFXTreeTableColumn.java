@@ -21,15 +21,34 @@ package com.jfoenix.controls;
 
 import com.jfoenix.controls.cells.editors.base.JFXTreeTableCell;
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TreeTableCell;
+import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableColumn;
 import javafx.util.Callback;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * JFXTreeTableColumn is used by {@Link JFXTreeTableView}, it supports grouping functionality
  *
@@ -83,11 +102,11 @@ public class JFXTreeTableColumn<S, T> extends TreeTableColumn<S, T> {
         final ContextMenu contextMenu = new ContextMenu();
         MenuItem item1 = new MenuItem("Group");
         item1.setOnAction((action) -> {
-            ((JFXTreeTableView) getTreeTableView()).group(this);
+            ((JFXTreeTableView) getTreeTableView()).groupAsync(this);
         });
         MenuItem item2 = new MenuItem("UnGroup");
         item2.setOnAction((action) -> {
-            ((JFXTreeTableView) getTreeTableView()).unGroup(this);
+            ((JFXTreeTableView) getTreeTableView()).unGroupAsync(this);
         });
         contextMenu.getItems().addAll(item1, item2);
         setContextMenu(contextMenu);
@@ -136,4 +155,155 @@ public class JFXTreeTableColumn<S, T> extends TreeTableColumn<S, T> {
                 this);
     }
 
+    /**
+     * aggregates that can be computed for the rows of each group node
+     */
+    public enum Aggregate {
+        COUNT, SUM, MIN, MAX, AVERAGE
+    }
+
+    /**
+     * aggregates of this column values that are computed incrementally for each group node,
+     * see {@link RecursiveTreeObject#getGroupedAggregate(TreeTableColumn)}.
+     * changes are applied the next time the tree table view is grouped
+     */
+    private final ObservableList<Aggregate> aggregates = FXCollections.observableArrayList();
+
+    public final ObservableList<Aggregate> getAggregates() {
+        return aggregates;
+    }
+
+    /**
+     * returns the group key of the specified row (its cell data), if {@link #isCacheGroupKeys()}
+     * is true the key is cached until the cell observable value of the row is invalidated.
+     * this method can be called from any thread, the invalidation listeners of the cached keys
+     * are only registered on the FX thread: keys computed off the FX thread are cached once
+     * their listeners are registered by a later FX pulse, if the cell value didn't change meanwhile.
+     *
+     * @param item row tree item
+     * @return the group key of the row
+     */
+    public final Object getGroupKey(TreeItem<S> item) {
+        if (!isCacheGroupKeys()) {
+            return getCellData(item);
+        }
+        final CachedGroupKey cached = groupKeys.get(item);
+        if (cached != null) {
+            return cached.key;
+        }
+        final ObservableValue<T> observable = getCellObservableValue(item);
+        if (observable == null) {
+            return null;
+        }
+        final T key = observable.getValue();
+        final CachedGroupKey groupKey = new CachedGroupKey(item, observable, key);
+        if (Platform.isFxApplicationThread()) {
+            groupKey.register();
+        } else {
+            pendingGroupKeys.add(groupKey);
+            if (!pendingRegistration.getAndSet(true)) {
+                Platform.runLater(this::registerPendingGroupKeys);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * group keys computed off the FX thread, waiting for their listeners to be registered
+     */
+    private final Queue<CachedGroupKey> pendingGroupKeys = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean pendingRegistration = new AtomicBoolean(false);
+
+    private void registerPendingGroupKeys() {
+        pendingRegistration.set(false);
+        CachedGroupKey groupKey;
+        while ((groupKey = pendingGroupKeys.poll()) != null) {
+            final TreeItem<S> item = groupKey.item.get();
+            // the cell value may have changed before the listener is registered
+            if (item != null && isCacheGroupKeys() && !groupKeys.containsKey(item)
+                && Objects.equals(groupKey.observable.getValue(), groupKey.key)) {
+                groupKey.register();
+            }
+        }
+    }
+
+    /**
+     * cached group keys, rows are weakly referenced
+     */
+    private final Map<TreeItem<S>, CachedGroupKey> groupKeys = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Whether or not to cache the group keys of the rows. it should only be enabled if the
+     * cell value factory returns the same observable value of the row (e.g. a property of the row object),
+     * as the cached key of a row is only invalidated when its cell observable value is invalidated
+     */
+    private BooleanProperty cacheGroupKeys = new SimpleBooleanProperty(false) {
+        @Override
+        protected void invalidated() {
+            if (!get()) {
+                clearGroupKeys();
+            }
+        }
+    };
+
+    public final BooleanProperty cacheGroupKeysProperty() {
+        return this.cacheGroupKeys;
+    }
+
+    public final boolean isCacheGroupKeys() {
+        return this.cacheGroupKeysProperty().get();
+    }
+
+    public final void setCacheGroupKeys(final boolean cacheGroupKeys) {
+        this.cacheGroupKeysProperty().set(cacheGroupKeys);
+    }
+
+    private void clearGroupKeys() {
+        pendingGroupKeys.clear();
+        final List<CachedGroupKey> cachedKeys;
+        synchronized (groupKeys) {
+            cachedKeys = new ArrayList<>(groupKeys.values());
+            groupKeys.clear();
+        }
+        for (CachedGroupKey cachedKey : cachedKeys) {
+            cachedKey.observable.removeListener(cachedKey);
+        }
+    }
+
+    /**
+     * group key of a row, removed from the cache once the cell value is invalidated.
+     * the row is weakly referenced so the cache entry doesn't prevent it from being collected
+     */
+    private final class CachedGroupKey implements InvalidationListener {
+        private final WeakReference<TreeItem<S>> item;
+        private final ObservableValue<T> observable;
+        private final Object key;
+
+        private CachedGroupKey(TreeItem<S> item, ObservableValue<T> observable, Object key) {
+            this.item = new WeakReference<>(item);
+            this.observable = observable;
+            this.key = key;
+        }
+
+        /**
+         * caches the key until the cell value is invalidated, must be called on the FX thread
+         */
+        private void register() {
+            final TreeItem<S> treeItem = item.get();
+            if (treeItem != null) {
+                observable.addListener(this);
+                groupKeys.put(treeItem, this);
+            }
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            this.observable.removeListener(this);
+            final TreeItem<S> treeItem = item.get();
+            if (treeItem != null) {
+                groupKeys.remove(treeItem, this);
+            }
+        }
+    }
+
 }
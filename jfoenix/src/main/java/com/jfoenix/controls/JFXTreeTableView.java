@@ -23,25 +23,38 @@ import com.jfoenix.concurrency.JFXUtilities;
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
 import com.jfoenix.skins.JFXTreeTableViewSkin;
 import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.event.EventHandler;
 import javafx.scene.control.Skin;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.TreeTableRow;
 import javafx.scene.control.TreeTableView;
 import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -95,6 +108,10 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
 
         this.setRowFactory(param -> new JFXTreeTableRow<>());
 
+        sharedRippleLayer.addListener(observable -> updateSharedRippler());
+        // the shared rippler must stay on top of the skin nodes
+        skinProperty().addListener(observable -> updateSharedRippler());
+
         this.getSelectionModel().selectedItemProperty().addListener((o, oldVal, newVal) -> {
             if (newVal != null && newVal.getValue() != null) {
                 itemWasSelected = true;
@@ -111,17 +128,15 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         });
 
         this.rootProperty().addListener(observable -> {
-            if (getRoot() != null) {
-                setCurrentItemsCount(count(getRoot()));
-            }
             if(!internalSetRoot) {
                 originalRoot = getRoot();
+                observeCountedItems();
                 reGroup();
             }
         });
 
         // compute the current items count
-        setCurrentItemsCount(count(getRoot()));
+        observeCountedItems();
     }
 
 
@@ -190,172 +205,405 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         return groupOrder;
     }
 
-    // lock is used to force mutual exclusion while group/ungroup operation
-    private final Lock lock = new ReentrantLock(true);
+    /**
+     * group index of the current group order, it's only accessed from the FX thread
+     */
+    private TreeTableGroupIndex<S> groupIndex;
+
+    /**
+     * filtered items list that is being observed by the group index
+     */
+    private ObservableList<TreeItem<S>> groupedItems;
+
+    /**
+     * forwards the filtered rows changes to the group index instead of regrouping,
+     * permuted rows are reordered inside their groups
+     */
+    private final ListChangeListener<TreeItem<S>> groupedItemsListener = change -> {
+        final List<TreeItem<S>> removed = new ArrayList<>();
+        final List<TreeItem<S>> added = new ArrayList<>();
+        final List<TreeItem<S>> permuted = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permuted.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+                continue;
+            }
+            if (change.wasUpdated()) {
+                continue;
+            }
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        JFXUtilities.runInFX(() -> {
+            if (groupIndex != null) {
+                groupIndex.apply(removed, added);
+                if (!permuted.isEmpty()) {
+                    groupIndex.reorder(permuted);
+                }
+            }
+        });
+    };
 
     /**
-     * this is a blocking method so it should not be called from the ui thread,
-     * it will regroup the tree table view
+     * this is a blocking method, it will regroup the tree table view by adding the columns
+     * to the group order. if it's called from the ui thread the grouped root is built and
+     * shown immediately, otherwise the caller is blocked until the grouped root is shown
      *
      * @param treeTableColumns
      */
     public void group(TreeTableColumn<S, ?>... treeTableColumns) {
-        try {
-            lock.lock();
-            // init groups map
-            if (groupOrder.size() == 0) {
-                groups = new HashMap<>();
+        applyGroupOrder(currentOrder -> {
+            for (TreeTableColumn<S, ?> treeTableColumn : treeTableColumns) {
+                if (!currentOrder.contains(treeTableColumn)) {
+                    currentOrder.add(treeTableColumn);
+                }
             }
+        });
+    }
+
+    /**
+     * this is a blocking method, it will ungroup the tree table view by removing the columns
+     * from the group order, see {@link #group(TreeTableColumn[])}
+     *
+     * @param treeTableColumns
+     */
+    public void unGroup(TreeTableColumn<S, ?>... treeTableColumns) {
+        applyGroupOrder(currentOrder -> currentOrder.removeAll(Arrays.asList(treeTableColumns)));
+    }
+
+    /*
+     * applies the group order update and waits until it's shown. on the FX thread the
+     * group index is built inline, as waiting for the FX commit would block the FX thread
+     */
+    private void applyGroupOrder(Consumer<List<TreeTableColumn<S, ?>>> update) {
+        if (!Platform.isFxApplicationThread()) {
             try {
-                if (originalRoot == null) {
-                    originalRoot = getRoot();
-                }
-                for (TreeTableColumn<S, ?> treeTableColumn : treeTableColumns) {
-                    if (groupOrder.contains(treeTableColumn)) {
-                        continue;
-                    }
-                    groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
-                }
-                groupOrder.addAll(treeTableColumns);
-                // update table ui
-                buildGroupedRoot(groups, null, 0);
-            } catch (Exception e) {
+                requestGroupOrder(update).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
                 e.printStackTrace();
             }
-        } finally {
-            lock.unlock();
+            return;
+        }
+        final List<TreeTableColumn<S, ?>> order;
+        final long generation;
+        synchronized (groupRequestLock) {
+            order = new ArrayList<>(requestedGroupOrder == null ? committedGroupOrder : requestedGroupOrder);
+            update.accept(order);
+            // pending asynchronous requests are superseded, they rebuild this order
+            generation = ++groupRequestGeneration;
+            requestedGroupOrder = groupRequestScheduled ? order : null;
+        }
+        try {
+            prepareGroupIndex(order, generation, createGroupSnapshot(order)).run();
+        } catch (Exception e) {
+            e.printStackTrace();
         }
     }
 
-    private void refreshGroups(List<TreeTableColumn<S, ?>> groupColumns) {
-        groups = new HashMap<>();
-        for (TreeTableColumn<S, ?> treeTableColumn : groupColumns) {
-            groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+    /**
+     * state of the tree table view captured on the FX thread to build a group index
+     */
+    private static final class GroupSnapshot<S extends RecursiveTreeObject<S>> {
+        private RecursiveTreeItem<S> root;
+        private List<TreeItem<S>> items;
+        private TreeTableGroupIndex<S> groupIndex;
+        private boolean parallel;
+    }
+
+    /*
+     * captures the filtered rows and creates the empty group index of the order,
+     * it must be called on the FX thread
+     */
+    private GroupSnapshot<S> createGroupSnapshot(List<TreeTableColumn<S, ?>> groupColumns) {
+        if (originalRoot == null) {
+            originalRoot = getRoot();
+        }
+        final GroupSnapshot<S> snapshot = new GroupSnapshot<>();
+        if (!groupColumns.isEmpty()) {
+            snapshot.root = (RecursiveTreeItem<S>) originalRoot;
+            snapshot.items = new ArrayList<>(snapshot.root.filteredItems);
+            // the selection is cleared whenever a group is expanded / collapsed
+            snapshot.groupIndex = new TreeTableGroupIndex<>(getColumns(), groupColumns,
+                () -> getSelectionModel().clearSelection());
+            snapshot.parallel = isParallelGrouping();
         }
-        groupOrder.addAll(groupColumns);
-        // update table ui
-        buildGroupedRoot(groups, null, 0);
+        return snapshot;
     }
 
-    /**
-     * this is a blocking method so it should not be called from the ui thread,
-     * it will ungroup the tree table view
-     *
-     * @param treeTableColumns
+    /*
+     * fills the group index of the snapshot, it only reads the snapshot so it can be run
+     * off the FX thread. returns the ui update that must be run on the FX thread to show it,
+     * the update is dropped if a newer group order was requested meanwhile.
+     * if there are no columns, the ui update restores the original root
      */
-    public void unGroup(TreeTableColumn<S, ?>... treeTableColumns) {
-        try {
-            lock.lock();
-            if (groupOrder.size() > 0) {
-                groupOrder.removeAll(treeTableColumns);
-                List<TreeTableColumn<S, ?>> grouped = new ArrayList<>();
-                grouped.addAll(groupOrder);
-                groupOrder.clear();
-                JFXUtilities.runInFXAndWait(() -> {
-                    ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
-                    sortOrder.addAll(getSortOrder());
+    private Runnable prepareGroupIndex(List<TreeTableColumn<S, ?>> groupColumns, long generation, GroupSnapshot<S> snapshot) {
+        if (groupColumns.isEmpty()) {
+            return () -> {
+                if (!commitGroupOrder(groupColumns, generation) || groupIndex == null) {
+                    // not grouped
+                    return;
+                }
+                observeGroupedItems(null);
+                groupIndex = null;
+                ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
+                sortOrder.addAll(getSortOrder());
+                if (originalRoot instanceof RecursiveTreeItem) {
+                    // show the filtered rows under the original root again
+                    ((RecursiveTreeItem<S>) originalRoot).setChildrenDetached(false);
+                } else {
                     // needs to reset the children in order to update the parent
                     List children = Arrays.asList(originalRoot.getChildren().toArray());
                     originalRoot.getChildren().clear();
                     originalRoot.getChildren().setAll(children);
-                    // reset the original root
-                    internalSetRoot = true;
-                    setRoot(originalRoot);
-                    internalSetRoot = false;
-                    getSelectionModel().select(0);
-                    getSortOrder().addAll(sortOrder);
-                    if (grouped.size() != 0) {
-                        refreshGroups(grouped);
-                    }
-                });
+                }
+                // reset the original root
+                internalSetRoot = true;
+                setRoot(originalRoot);
+                internalSetRoot = false;
+                getSelectionModel().select(0);
+                getSortOrder().addAll(sortOrder);
+            };
+        }
+        final RecursiveTreeItem<S> root = snapshot.root;
+        final TreeTableGroupIndex<S> newGroupIndex = snapshot.groupIndex;
+        if (snapshot.parallel) {
+            newGroupIndex.addAllParallel(snapshot.items, ForkJoinPool.commonPool());
+        } else {
+            newGroupIndex.addAll(snapshot.items);
+        }
+
+        // update ui
+        return () -> {
+            if (originalRoot != root || !commitGroupOrder(groupColumns, generation)) {
+                return;
+            }
+            observeGroupedItems(root.filteredItems);
+            if (!isSameItems(snapshot.items, root.filteredItems)) {
+                // filtered items were changed while grouping
+                newGroupIndex.sync(root.filteredItems);
             }
-        } finally {
-            lock.unlock();
+            groupIndex = newGroupIndex;
+            observeNestedItems(newGroupIndex.getRoot());
+            // the rows are shown under the group nodes, the original root must not take them back
+            // (e.g. when filtering) otherwise their events won't reach the grouped root
+            root.setChildrenDetached(true);
+            ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
+            sortOrder.addAll(getSortOrder());
+            internalSetRoot = true;
+            setRoot(newGroupIndex.getRoot());
+            internalSetRoot = false;
+            getSortOrder().addAll(sortOrder);
+            getSelectionModel().select(0);
+        };
+    }
+
+    /*
+     * publishes the group order if it's the latest requested one, called on the FX thread
+     */
+    private boolean commitGroupOrder(List<TreeTableColumn<S, ?>> order, long generation) {
+        synchronized (groupRequestLock) {
+            if (generation != groupRequestGeneration) {
+                return false;
+            }
+            if (!groupRequestScheduled) {
+                // otherwise the pending request still needs the order to rebuild it
+                requestedGroupOrder = null;
+            }
+            committedGroupOrder = new ArrayList<>(order);
         }
+        groupOrder.setAll(order);
+        return true;
     }
 
-    private Map group(TreeTableColumn<S, ?> column, Map parentGroup, Object key, RecursiveTreeItem<S> root) {
-        if (parentGroup.isEmpty()) {
-            parentGroup = groupByFunction(root.filteredItems, column);
-            return parentGroup;
+    private static <T> boolean isSameItems(List<T> items, List<T> currentItems) {
+        if (items.size() != currentItems.size()) {
+            return false;
         }
-        Object value = parentGroup.get(key);
-        if (value instanceof List) {
-            Object newGroup = groupByFunction((List) value, column);
-            parentGroup.put(key, newGroup);
-            return parentGroup;
-        } else if (value instanceof Map) {
-            for (Object childKey : ((Map) value).keySet()) {
-                value = group(column, (Map) value, childKey, root);
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) != currentItems.get(i)) {
+                return false;
             }
-            parentGroup.put(key, value);
-            return parentGroup;
-        } else if (key == null) {
-            for (Object childKey : parentGroup.keySet()) {
-                parentGroup = group(column, parentGroup, childKey, root);
-            }
-            return parentGroup;
         }
-        return parentGroup;
+        return true;
     }
 
-    protected Map groupByFunction(List<TreeItem<S>> items, TreeTableColumn<S, ?> column) {
-        Map<Object, List<TreeItem<S>>> map = new HashMap<>();
-        for (TreeItem<S> child : items) {
-            Object key = column.getCellData(child);
-            map.computeIfAbsent(key, k -> new ArrayList<>());
-            map.get(key).add(child);
+    /**
+     * requested group order of the pending asynchronous group requests, null if there is none
+     */
+    private List<TreeTableColumn<S, ?>> requestedGroupOrder;
+    /**
+     * copy of the group order shown in the tree table view, readable from any thread
+     */
+    private List<TreeTableColumn<S, ?>> committedGroupOrder = new ArrayList<>();
+    private long groupRequestGeneration = 0;
+    private boolean groupRequestScheduled = false;
+    private List<CompletableFuture<Void>> groupRequestFutures = new ArrayList<>();
+    private final Object groupRequestLock = new Object();
+
+    /**
+     * groups the tree table view without blocking the caller, it can be called from the ui thread.
+     * <p>
+     * requests are coalesced, if a newer request is issued while grouping, only the latest
+     * group order is applied and the futures of all the coalesced requests are completed once it's
+     * shown in the tree table view
+     *
+     * @param treeTableColumns columns to be added to the group order
+     * @return future completed once the grouped root is shown
+     */
+    public CompletableFuture<Void> groupAsync(TreeTableColumn<S, ?>... treeTableColumns) {
+        return requestGroupOrder(currentOrder -> {
+            for (TreeTableColumn<S, ?> treeTableColumn : treeTableColumns) {
+                if (!currentOrder.contains(treeTableColumn)) {
+                    currentOrder.add(treeTableColumn);
+                }
+            }
+        });
+    }
+
+    /**
+     * ungroups the tree table view without blocking the caller, see {@link #groupAsync(TreeTableColumn[])}
+     *
+     * @param treeTableColumns columns to be removed from the group order
+     * @return future completed once the (un)grouped root is shown
+     */
+    public CompletableFuture<Void> unGroupAsync(TreeTableColumn<S, ?>... treeTableColumns) {
+        return requestGroupOrder(currentOrder -> currentOrder.removeAll(Arrays.asList(treeTableColumns)));
+    }
+
+    private CompletableFuture<Void> requestGroupOrder(Consumer<List<TreeTableColumn<S, ?>>> update) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (groupRequestLock) {
+            final List<TreeTableColumn<S, ?>> newOrder = new ArrayList<>(
+                requestedGroupOrder == null ? committedGroupOrder : requestedGroupOrder);
+            update.accept(newOrder);
+            requestedGroupOrder = newOrder;
+            groupRequestGeneration++;
+            groupRequestFutures.add(future);
+            if (!groupRequestScheduled) {
+                groupRequestScheduled = true;
+                final Executor executor = getGroupExecutor() == null ? ForkJoinPool.commonPool() : getGroupExecutor();
+                try {
+                    executor.execute(this::processGroupRequests);
+                } catch (RuntimeException e) {
+                    groupRequestScheduled = false;
+                    requestedGroupOrder = null;
+                    completeGroupRequests(groupRequestFutures, e);
+                    groupRequestFutures = new ArrayList<>();
+                }
+            }
         }
-        return map;
+        return future;
     }
 
     /*
-     * this method is used to update tree items and set the new root
-     * after grouping the data model
-     */
-    private void buildGroupedRoot(Map<?,?> groupedItems, RecursiveTreeItem parent, int groupIndex) {
-        boolean setRoot = false;
-        if (parent == null) {
-            parent = new RecursiveTreeItem<>(new RecursiveTreeObject(), RecursiveTreeObject::getChildren);
-            setRoot = true;
-        }
-
-        for (Map.Entry<?, ?> entry : groupedItems.entrySet()) {
-            Object key = entry.getKey();
-            RecursiveTreeObject groupItem = new RecursiveTreeObject<>();
-            groupItem.setGroupedValue(key);
-            groupItem.setGroupedColumn(groupOrder.get(groupIndex));
-
-            RecursiveTreeItem node = new RecursiveTreeItem<>(groupItem, RecursiveTreeObject::getChildren);
-            // TODO: need to be removed once the selection issue is fixed
-            node.expandedProperty().addListener((o, oldVal, newVal) -> {
-                getSelectionModel().clearSelection();
-            });
+     * builds the latest requested group order, superseded builds are dropped
+     * and the result is shown in one FX pulse. the rows and the order are captured
+     * on the FX thread, only the group index is built on the group executor
+     */
+    private void processGroupRequests() {
+        while (true) {
+            final List<TreeTableColumn<S, ?>> order;
+            final long generation;
+            synchronized (groupRequestLock) {
+                order = new ArrayList<>(requestedGroupOrder);
+                generation = groupRequestGeneration;
+            }
 
-            parent.originalItems.add(node);
-            parent.getChildren().add(node);
+            Runnable commit = null;
+            Exception error = null;
+            try {
+                final List<GroupSnapshot<S>> snapshot = new ArrayList<>(1);
+                JFXUtilities.runInFXAndWait(() -> snapshot.add(createGroupSnapshot(order)));
+                if (snapshot.isEmpty()) {
+                    throw new IllegalStateException("failed to capture the grouped rows");
+                }
+                commit = prepareGroupIndex(order, generation, snapshot.get(0));
+            } catch (Exception e) {
+                error = e;
+            }
 
-            Object children = entry.getValue();
-            if (children instanceof List) {
-                node.originalItems.addAll((List) children);
-                node.getChildren().addAll((List) children);
-            } else if (children instanceof Map) {
-                buildGroupedRoot((Map) children, node, groupIndex + 1);
+            final List<CompletableFuture<Void>> futures;
+            synchronized (groupRequestLock) {
+                if (generation != groupRequestGeneration) {
+                    // superseded while grouping
+                    continue;
+                }
+                futures = groupRequestFutures;
+                groupRequestFutures = new ArrayList<>();
+                groupRequestScheduled = false;
+                if (error != null && generation == groupRequestGeneration) {
+                    requestedGroupOrder = null;
+                }
             }
-        }
 
-        // update ui
-        if (setRoot) {
-            final RecursiveTreeItem<S> newParent = parent;
+            if (error != null) {
+                completeGroupRequests(futures, error);
+                return;
+            }
+            final Runnable uiUpdate = commit;
             JFXUtilities.runInFX(() -> {
-                ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
-                sortOrder.addAll(getSortOrder());
-                internalSetRoot = true;
-                setRoot(newParent);
-                internalSetRoot = false;
-                getSortOrder().addAll(sortOrder);
-                getSelectionModel().select(0);
+                try {
+                    // dropped if a newer group order was requested meanwhile
+                    uiUpdate.run();
+                    completeGroupRequests(futures, null);
+                } catch (Exception e) {
+                    completeGroupRequests(futures, e);
+                }
             });
+            return;
+        }
+    }
+
+    private static void completeGroupRequests(List<CompletableFuture<Void>> futures, Throwable error) {
+        for (CompletableFuture<Void> future : futures) {
+            if (error == null) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * executor used by {@link #groupAsync(TreeTableColumn[])} / {@link #unGroupAsync(TreeTableColumn[])},
+     * if not set the common fork join pool is used
+     */
+    private ObjectProperty<Executor> groupExecutor = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<Executor> groupExecutorProperty() {
+        return this.groupExecutor;
+    }
+
+    public final Executor getGroupExecutor() {
+        return this.groupExecutorProperty().get();
+    }
+
+    public final void setGroupExecutor(final Executor groupExecutor) {
+        this.groupExecutorProperty().set(groupExecutor);
+    }
+
+    protected Map groupByFunction(List<TreeItem<S>> items, TreeTableColumn<S, ?> column) {
+        Map<Object, List<TreeItem<S>>> map = new LinkedHashMap<>();
+        for (TreeItem<S> child : items) {
+            Object key = TreeTableGroupIndex.getGroupKey(column, child);
+            map.computeIfAbsent(key, k -> new ArrayList<>());
+            map.get(key).add(child);
+        }
+        return map;
+    }
+
+    private void observeGroupedItems(ObservableList<TreeItem<S>> items) {
+        if (groupedItems == items) {
+            return;
+        }
+        if (groupedItems != null) {
+            groupedItems.removeListener(groupedItemsListener);
+        }
+        groupedItems = items;
+        if (groupedItems != null) {
+            groupedItems.addListener(groupedItemsListener);
         }
     }
 
@@ -372,19 +620,11 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
             });
     }
 
-    private Runnable filterRunnable = () -> {
-        if (originalRoot == null) {
-            originalRoot = getRoot();
-        }
-        // filter the ungrouped root
-        ((RecursiveTreeItem) originalRoot).setPredicate(getPredicate());
-        // regroup the data
-        reGroup();
-        Platform.runLater(() -> {
-            getSelectionModel().select(0);
-            setCurrentItemsCount(count(getRoot()));
-        });
-    };
+    /**
+     * generation of the latest requested filter, filter passes of older
+     * generations are abandoned
+     */
+    private final AtomicLong filterGeneration = new AtomicLong();
 
     private ScheduledFuture<?> task;
 
@@ -392,17 +632,128 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
      * this method will filter the tree table
      */
     private void filter(Predicate<TreeItem<S>> predicate) {
+        final long generation = filterGeneration.incrementAndGet();
         if (task != null) {
             task.cancel(false);
         }
-        task = threadPool.schedule(filterRunnable, 200, TimeUnit.MILLISECONDS);
+        final ScheduledExecutorService executor = getFilterExecutor() == null ? threadPool : getFilterExecutor();
+        final Duration delay = getFilterDelay() == null ? Duration.ZERO : getFilterDelay();
+        filterProgress.set(0);
+        task = executor.schedule(() -> runFilter(predicate, generation), (long) delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /*
+     * evaluates the predicate against a snapshot of the original root off the FX thread,
+     * then publishes the visible items to the FX thread in one pass
+     */
+    private void runFilter(Predicate<TreeItem<S>> predicate, long generation) {
+        if (originalRoot == null) {
+            originalRoot = getRoot();
+        }
+        final RecursiveTreeItem<S> root = (RecursiveTreeItem<S>) originalRoot;
+        if (root == null) {
+            return;
+        }
+        final BooleanSupplier stale = () -> generation != filterGeneration.get();
+        // the children lists are only read on the FX thread
+        final List<RecursiveTreeItem.FilterSnapshot<S>> snapshot = new ArrayList<>(1);
+        JFXUtilities.runInFXAndWait(() -> snapshot.add(root.createFilterSnapshot()));
+        if (snapshot.isEmpty() || stale.getAsBoolean()) {
+            return;
+        }
+        final Map<TreeItem<S>, Boolean> visibility = new IdentityHashMap<>();
+        final double[] publishedProgress = {0};
+        final boolean completed = root.computeFilter(predicate, snapshot.get(0), visibility, stale, progress -> {
+            // limit progress updates to 1% steps
+            if (progress - publishedProgress[0] >= 0.01) {
+                publishedProgress[0] = progress;
+                Platform.runLater(() -> {
+                    if (!stale.getAsBoolean()) {
+                        filterProgress.set(Math.min(progress, 0.99));
+                    }
+                });
+            }
+        });
+        if (!completed) {
+            return;
+        }
+        // count the visible rows off the FX thread
+        int count = 0;
+        for (Map.Entry<TreeItem<S>, Boolean> entry : visibility.entrySet()) {
+            if (entry.getValue() && isCountable(entry.getKey())) {
+                count++;
+            }
+        }
+        final int visibleCount = count;
+        Platform.runLater(() -> {
+            if (stale.getAsBoolean() || originalRoot != root) {
+                return;
+            }
+            // filter the ungrouped root, the group index (if any) is updated incrementally
+            applyingFilter = true;
+            try {
+                root.applyFilter(predicate, visibility);
+            } finally {
+                applyingFilter = false;
+            }
+            getSelectionModel().select(0);
+            setCurrentItemsCount(visibleCount);
+            filterProgress.set(1);
+        });
+    }
+
+    /**
+     * the delay used to debounce the predicate changes before filtering, default is 200ms
+     */
+    private ObjectProperty<Duration> filterDelay = new SimpleObjectProperty<>(Duration.millis(200));
+
+    public final ObjectProperty<Duration> filterDelayProperty() {
+        return this.filterDelay;
+    }
+
+    public final Duration getFilterDelay() {
+        return this.filterDelayProperty().get();
+    }
+
+    public final void setFilterDelay(final Duration filterDelay) {
+        this.filterDelayProperty().set(filterDelay);
+    }
+
+    /**
+     * executor used to evaluate the predicate, if not set the tree table view
+     * uses its own single thread executor
+     */
+    private ObjectProperty<ScheduledExecutorService> filterExecutor = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<ScheduledExecutorService> filterExecutorProperty() {
+        return this.filterExecutor;
+    }
+
+    public final ScheduledExecutorService getFilterExecutor() {
+        return this.filterExecutorProperty().get();
+    }
+
+    public final void setFilterExecutor(final ScheduledExecutorService filterExecutor) {
+        this.filterExecutorProperty().set(filterExecutor);
+    }
+
+    /**
+     * progress of the current filter pass, 1 when no filter is running
+     */
+    private ReadOnlyDoubleWrapper filterProgress = new ReadOnlyDoubleWrapper(1);
+
+    public final ReadOnlyDoubleProperty filterProgressProperty() {
+        return this.filterProgress.getReadOnlyProperty();
+    }
+
+    public final double getFilterProgress() {
+        return this.filterProgress.get();
     }
 
     public void reGroup() {
         if (!groupOrder.isEmpty()) {
-            ArrayList<TreeTableColumn<S, ?>> tempGroups = new ArrayList<>(groupOrder);
-            groupOrder.clear();
-            group(tempGroups.toArray(new TreeTableColumn[tempGroups.size()]));
+            // rebuilds the current group order
+            group();
         }
     }
 
@@ -420,18 +771,166 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         this.predicateProperty().set(predicate);
     }
 
+    /**
+     * when enabled, group keys are extracted in parallel using the common fork join pool,
+     * the resulting group order is the same as the sequential grouping
+     */
+    private BooleanProperty parallelGrouping = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty parallelGroupingProperty() {
+        return this.parallelGrouping;
+    }
+
+    public final boolean isParallelGrouping() {
+        return this.parallelGroupingProperty().get();
+    }
+
+    public final void setParallelGrouping(final boolean parallelGrouping) {
+        this.parallelGroupingProperty().set(parallelGrouping);
+    }
+
+    /**
+     * if true, a single rippler is shared by all rows and shown on top of the pressed row
+     */
+    private BooleanProperty sharedRippleLayer = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty sharedRippleLayerProperty() {
+        return this.sharedRippleLayer;
+    }
+
+    public final boolean isSharedRippleLayer() {
+        return this.sharedRippleLayerProperty().get();
+    }
+
+    public final void setSharedRippleLayer(final boolean sharedRippleLayer) {
+        this.sharedRippleLayerProperty().set(sharedRippleLayer);
+    }
+
+    private SharedCellRippler sharedRippler;
+
+    private void updateSharedRippler() {
+        if (isSharedRippleLayer()) {
+            if (sharedRippler == null) {
+                sharedRippler = new SharedCellRippler(this, TreeTableRow.class);
+            }
+            sharedRippler.attach(getChildren());
+        } else if (sharedRippler != null) {
+            sharedRippler.detach(getChildren());
+            sharedRippler = null;
+        }
+    }
+
     private IntegerProperty currentItemsCount = new SimpleIntegerProperty(0);
-    private Map<Object, Map<Object, ?>> groups;
 
     /**
-     * @return the initial tree items count ( add / remove items should be handled manually for now )
+     * filtered items list of the original root that is used to update the items count
+     */
+    private ObservableList<TreeItem<S>> countedItems;
+
+    /**
+     * original root observed by the nested items handler
+     */
+    private TreeItem<S> countedRoot;
+
+    /**
+     * used to skip counting the filtered items changes while applying a filter,
+     * as the filter pass computes the items count
+     */
+    private boolean applyingFilter = false;
+
+    /**
+     * updates the items count using only the added / removed rows
+     */
+    private final ListChangeListener<TreeItem<S>> countedItemsListener = change -> {
+        if (applyingFilter) {
+            return;
+        }
+        int delta = 0;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (TreeItem<S> item : change.getRemoved()) {
+                delta -= count(item);
+            }
+            for (TreeItem<S> item : change.getAddedSubList()) {
+                delta += count(item);
+            }
+        }
+        if (delta != 0) {
+            final int countDelta = delta;
+            JFXUtilities.runInFX(() -> setCurrentItemsCount(getCurrentItemsCount() + countDelta));
+        }
+    };
+
+    /**
+     * updates the items count when rows are added to / removed from nested rows, events of the
+     * roots and group nodes are skipped as the top level rows are counted from the filtered items
+     */
+    private final EventHandler<TreeItem.TreeModificationEvent<S>> nestedItemsHandler = event -> {
+        if (applyingFilter || (!event.wasAdded() && !event.wasRemoved())) {
+            return;
+        }
+        final TreeItem<S> parent = event.getTreeItem();
+        if (parent == null || !isCountable(parent)) {
+            return;
+        }
+        int delta = 0;
+        for (TreeItem<S> item : event.getRemovedChildren()) {
+            delta -= count(item);
+        }
+        for (TreeItem<S> item : event.getAddedChildren()) {
+            delta += count(item);
+        }
+        if (delta != 0) {
+            setCurrentItemsCount(getCurrentItemsCount() + delta);
+        }
+    };
+
+    /*
+     * nested rows are shown under the group nodes when grouped,
+     * so their events bubble up to the grouped root
+     */
+    private void observeNestedItems(TreeItem<S> groupedRoot) {
+        groupedRoot.addEventHandler(TreeItem.<S>childrenModificationEvent(), nestedItemsHandler);
+    }
+
+    /*
+     * counts the rows of the original root once, then keeps the count up to date
+     * using its filtered items changes and the children changes of the nested rows
+     */
+    private void observeCountedItems() {
+        if (countedItems != null) {
+            countedItems.removeListener(countedItemsListener);
+            countedItems = null;
+        }
+        if (countedRoot != null) {
+            countedRoot.removeEventHandler(TreeItem.<S>childrenModificationEvent(), nestedItemsHandler);
+        }
+        countedRoot = originalRoot;
+        if (countedRoot != null) {
+            countedRoot.addEventHandler(TreeItem.<S>childrenModificationEvent(), nestedItemsHandler);
+        }
+        if (originalRoot instanceof RecursiveTreeItem) {
+            countedItems = ((RecursiveTreeItem<S>) originalRoot).filteredItems;
+            if (countedItems != null) {
+                countedItems.addListener(countedItemsListener);
+            }
+        }
+        setCurrentItemsCount(count(originalRoot));
+    }
+
+    /**
+     * @return the current tree items count, it's updated when filtering or
+     * adding / removing items to the data lists of the root and the nested rows.
+     * rows of collapsed lazy tree items are counted once their tree items are created
      */
     public final IntegerProperty currentItemsCountProperty() {
         return this.currentItemsCount;
     }
 
     /**
-     * @return the initial tree items count ( add / remove items should be handled manually for now )
+     * @return the current tree items count
      */
     public final int getCurrentItemsCount() {
         return this.currentItemsCountProperty().get();
@@ -451,15 +950,17 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
             return 0;
         }
 
-        int count = 1;
-        if (node.getValue() == null || (node.getValue() != null && node.getValue()
-            .getClass()
-            .equals(RecursiveTreeObject.class))) {
-            count = 0;
-        }
+        int count = isCountable(node) ? 1 : 0;
         for (TreeItem<?> child : node.getChildren()) {
             count += count(child);
         }
         return count;
     }
+
+    /*
+     * group nodes and empty nodes are not counted
+     */
+    private static boolean isCountable(TreeItem<?> node) {
+        return node.getValue() != null && node.getValue().getClass() != RecursiveTreeObject.class;
+    }
 }
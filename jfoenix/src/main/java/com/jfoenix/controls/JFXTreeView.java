@@ -19,6 +19,9 @@
 
 package com.jfoenix.controls;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.scene.control.TreeCell;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeView;
 
@@ -46,5 +49,44 @@ public class JFXTreeView<T> extends TreeView<T> {
     private void init() {
         this.setCellFactory((view) -> new JFXTreeCell<>());
         this.getStyleClass().add(DEFAULT_STYLE_CLASS);
+        sharedRippleLayer.addListener(observable -> {
+            updateSharedRippler();
+            // recreate the cells to add / remove their own ripplers
+            refresh();
+        });
+        // the shared rippler must stay on top of the skin nodes
+        skinProperty().addListener(observable -> updateSharedRippler());
+    }
+
+    /**
+     * if true, the tree cells won't create their own ripplers, instead a single rippler
+     * is shared by all cells and shown on top of the pressed cell.
+     */
+    private BooleanProperty sharedRippleLayer = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty sharedRippleLayerProperty() {
+        return this.sharedRippleLayer;
+    }
+
+    public final boolean isSharedRippleLayer() {
+        return this.sharedRippleLayerProperty().get();
+    }
+
+    public final void setSharedRippleLayer(final boolean sharedRippleLayer) {
+        this.sharedRippleLayerProperty().set(sharedRippleLayer);
+    }
+
+    private SharedCellRippler sharedRippler;
+
+    private void updateSharedRippler() {
+        if (isSharedRippleLayer()) {
+            if (sharedRippler == null) {
+                sharedRippler = new SharedCellRippler(this, TreeCell.class);
+            }
+            sharedRippler.attach(getChildren());
+        } else if (sharedRippler != null) {
+            sharedRippler.detach(getChildren());
+            sharedRippler = null;
+        }
     }
 }
@@ -28,18 +28,34 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.event.Event;
 import javafx.scene.Node;
 import javafx.scene.control.TreeItem;
 import javafx.util.Callback;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
  * RecursiveTreeItem is used along with RecursiveTreeObject
  * to build the data model for the TreeTableView.
+ * <p>
+ * In lazy mode, the children of descendant tree items are only created
+ * when the tree item is expanded or looked up for the first time, collapsed
+ * tree items are filtered using their data. using {@link #objectChildrenFactory()} as the
+ * children factory avoids creating the children lists of the rows that have no children.
+ * <p>
+ * A flat recursive tree item (see {@link #flat(ObservableList)}) stores its rows
+ * as lightweight leaf tree items, in the same order as the data list.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -47,8 +63,23 @@ import java.util.function.Predicate;
  */
 public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeItem<T> {
 
+    /**
+     * children factory returning {@link RecursiveTreeObject#getChildren()}
+     */
+    private static final Callback<RecursiveTreeObject<?>, ObservableList<?>> OBJECT_CHILDREN_FACTORY = RecursiveTreeObject::getChildren;
+
     private Callback<RecursiveTreeObject<T>, ObservableList<T>> childrenFactory;
 
+    /**
+     * whether or not the children of descendant tree items are created on demand
+     */
+    private boolean lazy = false;
+
+    /**
+     * whether or not the children are stored as leaf tree items
+     */
+    private boolean flat = false;
+
     /**
      * predicate used to filter nodes
      */
@@ -59,6 +90,12 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      */
     private HashMap<T, TreeItem<T>> itemsMap;
 
+    /**
+     * map data value to leaf tree item in flat mode, created on the first lookup and
+     * dropped whenever the first leaf of a value may have changed
+     */
+    private Map<T, TreeItem<T>> leavesMap;
+
     /**
      * list of original items
      */
@@ -69,6 +106,23 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      */
     FilteredList<TreeItem<T>> filteredItems;
 
+    /**
+     * used to skip the recursive filtering while applying a computed filter
+     */
+    private boolean applyingFilter = false;
+
+    /**
+     * whether or not the children are shown by another tree item (e.g. the grouped root),
+     * in that case only the original / filtered items are kept up to date
+     */
+    private boolean childrenDetached = false;
+
+    /**
+     * whether or not a filter was applied to this tree item, lazy children
+     * are filtered using the predicate once they are created
+     */
+    private boolean filtered = false;
+
     /***************************************************************************
      *                                                                         *
      * Constructors                                                            *
@@ -102,9 +156,27 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func    is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(value, graphic, func, false);
+    }
+
+    /**
+     * creates recursive tree item for a specified value and a graphic node
+     *
+     * @param value   of the tree item
+     * @param graphic node
+     * @param func    is the callback used to retrieve the children of the current tree item
+     * @param lazy    whether or not the children of descendant tree items are created on demand
+     */
+    public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func, boolean lazy) {
+        this(value, graphic, func, lazy, true);
+    }
+
+    private RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                              boolean lazy, boolean materialize) {
         super(value, graphic);
         this.childrenFactory = func;
-        init(value);
+        this.lazy = lazy;
+        init(value, materialize);
     }
 
     /**
@@ -114,75 +186,281 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func     is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(dataList, func, false);
+    }
+
+    /**
+     * creates recursive tree item from a data list
+     *
+     * @param dataList of values
+     * @param func     is the callback used to retrieve the children of the current tree item
+     * @param lazy     whether or not the children of descendant tree items are created on demand
+     */
+    public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func, boolean lazy) {
+        this(dataList, func, lazy, false);
+    }
+
+    private RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                              boolean lazy, boolean flat) {
         RecursiveTreeObject<T> root = new RecursiveTreeObject<>();
         root.setChildren(dataList);
         this.childrenFactory = func;
-        init(root);
+        this.lazy = lazy;
+        this.flat = flat;
+        init(root, true);
+    }
+
+    /**
+     * creates a flat recursive tree item from a data list, each row is stored as
+     * a leaf tree item that has no children list, filtered list or items map entry.
+     * it should be used for large tables that don't show nested rows.
+     *
+     * @param dataList of values
+     * @return flat recursive tree item
+     */
+    public static <T extends RecursiveTreeObject<T>> RecursiveTreeItem<T> flat(ObservableList<T> dataList) {
+        return new RecursiveTreeItem<>(dataList, objectChildrenFactory(), false, true);
+    }
+
+    /**
+     * children factory returning {@link RecursiveTreeObject#getChildren()}. unlike a method
+     * reference, lazy tree items using it check for leaves / filter their collapsed rows without
+     * creating the children lists of the rows that have no children.
+     *
+     * @return the shared children factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends RecursiveTreeObject<T>> Callback<RecursiveTreeObject<T>, ObservableList<T>> objectChildrenFactory() {
+        // the factory returns the children of any tree object, whatever its type
+        return (Callback<RecursiveTreeObject<T>, ObservableList<T>>) (Callback<?, ?>) OBJECT_CHILDREN_FACTORY;
     }
 
-    private void init(RecursiveTreeObject<T> value) {
+    private void init(RecursiveTreeObject<T> value, boolean materialize) {
 
-        if (value != null) {
-            addChildrenListener(value);
+        if (value != null && materialize) {
+            addChildrenListener(value, true);
         }
         valueProperty().addListener(observable -> {
-            if (getValue() != null) {
-                addChildrenListener(getValue());
+            if (getValue() != null && (!lazy || originalItems != null)) {
+                addChildrenListener(getValue(), true);
             }
         });
+        if (lazy) {
+            expandedProperty().addListener(observable -> {
+                if (isExpanded()) {
+                    materialize();
+                }
+            });
+        }
 
         predicate.addListener(observable -> {
-            filteredItems.setPredicate(child -> {
-                // Set the predicate of child items to force filtering
-                if (child instanceof RecursiveTreeItem) {
-                    if (!((RecursiveTreeItem) child).originalItems.isEmpty()) {
-                        RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
-                        filterableChild.setPredicate(predicate.get());
-                    }
-                }
-                // If there is no predicate, keep this tree item
-                if (predicate.get() == null) {
-                    return true;
-                }
-                // If there are children, keep this tree item
-                if (child.getChildren().size() > 0) {
-                    return true;
-                }
-                // If its a group node keep this item if it has children
-                if (child.getValue() instanceof RecursiveTreeObject &&
-                    child.getValue().getClass() == RecursiveTreeObject.class) {
-                    return child.getChildren().size() != 0;
+            if (applyingFilter) {
+                return;
+            }
+            // compute the visibility of the whole sub tree in one pass, then apply it in one FX pulse
+            final Predicate<TreeItem<T>> newPredicate = predicate.get();
+            final Map<TreeItem<T>, Boolean> visibility = new IdentityHashMap<>();
+            final List<FilterSnapshot<T>> snapshot = new ArrayList<>(1);
+            JFXUtilities.runInFXAndWait(() -> snapshot.add(createFilterSnapshot()));
+            computeFilter(newPredicate, snapshot.get(0), visibility, () -> false, null);
+            JFXUtilities.runInFXAndWait(() -> {
+                if (predicate.get() == newPredicate) {
+                    applyFilter(newPredicate, visibility);
                 }
-                // Otherwise ask the TreeItemPredicate
-                return predicate.get().test(child);
             });
         });
+    }
 
-        this.filteredItems.predicateProperty().addListener(observable ->
-            JFXUtilities.runInFXAndWait(() -> {
-                getChildren().clear();
-                getChildren().setAll(filteredItems);
-            }));
+    /**
+     * creates the children of a lazy tree item if they were not created yet
+     */
+    private void materialize() {
+        if (originalItems == null && getValue() != null) {
+            addChildrenListener(getValue(), true);
+        }
+    }
+
+    /**
+     * detaching the children stops mirroring the filtered items into the children list,
+     * so the rows keep their current parent (e.g. group nodes). once reattached, the children
+     * are reset to the filtered items.
+     * <p>
+     * <b>Note:</b> this method must be called from the FX thread
+     *
+     * @param detached whether or not the children are detached
+     */
+    void setChildrenDetached(boolean detached) {
+        if (childrenDetached == detached) {
+            return;
+        }
+        childrenDetached = detached;
+        if (!detached && filteredItems != null) {
+            // needs to reset the children in order to update their parent
+            getChildren().clear();
+            getChildren().setAll(new ArrayList<>(filteredItems));
+        }
+    }
+
+    private RecursiveTreeItem<T> createChild(T child) {
+        final RecursiveTreeItem<T> treeItem = new RecursiveTreeItem<>(child, getGraphic(), childrenFactory, lazy, !lazy);
+        if (filtered && lazy) {
+            treeItem.assignFilter(getPredicate());
+        }
+        return treeItem;
+    }
+
+    /*
+     * returns the data children of the value, null if the value has no children
+     * and its children list is not created yet
+     */
+    private ObservableList<T> getValueChildren(RecursiveTreeObject<T> value) {
+        if (childrenFactory == (Object) OBJECT_CHILDREN_FACTORY && !value.hasChildren()) {
+            return null;
+        }
+        return childrenFactory.call(value);
     }
 
+    private boolean isMaterialized() {
+        return originalItems != null || !lazy || getValue() == null;
+    }
 
-    private void addChildrenListener(RecursiveTreeObject<T> value) {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLeaf() {
+        if (originalItems == null && lazy) {
+            if (getValue() == null) {
+                return true;
+            }
+            final ObservableList<T> children = getValueChildren(getValue());
+            return children == null || children.isEmpty();
+        }
+        return super.isLeaf();
+    }
+
+    /*
+     * updates the children to match the filtered items using minimal changes,
+     * hidden children are removed by ranges and newly visible ones are inserted
+     * at their filtered position (or appended if the children were reordered e.g. sorted)
+     */
+    private void updateChildren() {
+        if (childrenDetached) {
+            return;
+        }
+        final ObservableList<TreeItem<T>> children = getChildren();
+        final int filteredSize = filteredItems.size();
+        final Map<TreeItem<T>, Integer> filteredIndex = new IdentityHashMap<>(filteredSize);
+        for (int i = 0; i < filteredSize; i++) {
+            filteredIndex.put(filteredItems.get(i), i);
+        }
+
+        // remove hidden children by ranges, starting from the end to keep the indices valid
+        int end = children.size();
+        for (int i = end - 1; i >= 0; i--) {
+            if (filteredIndex.containsKey(children.get(i))) {
+                if (i + 1 < end) {
+                    children.remove(i + 1, end);
+                }
+                end = i;
+            }
+        }
+        if (end > 0) {
+            children.remove(0, end);
+        }
+
+        if (children.size() == filteredSize) {
+            return;
+        }
+
+        boolean ordered = true;
+        int lastIndex = -1;
+        for (TreeItem<T> child : children) {
+            final int index = filteredIndex.remove(child);
+            if (index < lastIndex) {
+                ordered = false;
+            }
+            lastIndex = index;
+        }
+        // at this point, filteredIndex only contains the newly visible items
+        if (!ordered) {
+            final List<TreeItem<T>> shownItems = new ArrayList<>(filteredIndex.size());
+            for (TreeItem<T> item : filteredItems) {
+                if (filteredIndex.containsKey(item)) {
+                    shownItems.add(item);
+                }
+            }
+            children.addAll(shownItems);
+            return;
+        }
+
+        // children are a sub sequence of the filtered items, insert the missing runs
+        int childIndex = 0;
+        int i = 0;
+        while (i < filteredSize) {
+            if (!filteredIndex.containsKey(filteredItems.get(i))) {
+                i++;
+                childIndex++;
+                continue;
+            }
+            final int runStart = i;
+            while (i < filteredSize && filteredIndex.containsKey(filteredItems.get(i))) {
+                i++;
+            }
+            children.addAll(childIndex, new ArrayList<>(filteredItems.subList(runStart, i)));
+            childIndex += i - runStart;
+        }
+    }
+
+
+    private void addChildrenListener(RecursiveTreeObject<T> value, boolean attach) {
         final ObservableList<T> children = childrenFactory.call(value);
+        if (flat) {
+            addLeavesListener(children, attach);
+            return;
+        }
         originalItems = FXCollections.observableArrayList();
         itemsMap = new HashMap<>();
 
         for (T child : children) {
-            final RecursiveTreeItem<T> treeItem = new RecursiveTreeItem<>(child, getGraphic(), childrenFactory);
+            final RecursiveTreeItem<T> treeItem = createChild(child);
             originalItems.add(treeItem);
             itemsMap.put(child, treeItem);
         }
 
-        filteredItems = new FilteredList<>(originalItems, (TreeItem<T> t) -> true);
+        filteredItems = new FilteredList<>(originalItems, createChildrenPredicate());
+        filteredItems.predicateProperty().addListener(observable ->
+            JFXUtilities.runInFXAndWait(this::updateChildren));
 
-        this.getChildren().addAll(originalItems);
+        if (attach) {
+            this.getChildren().addAll(filteredItems);
+        }
 
         children.addListener((ListChangeListener<T>) change -> {
             while (change.next()) {
+                if (change.wasPermutated()) {
+                    // original items are kept in the data list order
+                    final int from = change.getFrom();
+                    final int to = change.getTo();
+                    final List<TreeItem<T>> permuted = new ArrayList<>(originalItems.subList(from, to));
+                    for (int i = from; i < to; i++) {
+                        permuted.set(change.getPermutation(i) - from, originalItems.get(i));
+                    }
+                    originalItems.remove(from, to);
+                    originalItems.addAll(from, permuted);
+                    continue;
+                }
+                if (change.wasUpdated()) {
+                    // notify the tree (e.g. group index) that the row data was changed
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        final T child = change.getList().get(i);
+                        final TreeItem<T> treeItem = itemsMap.get(child);
+                        if (treeItem != null) {
+                            Event.fireEvent(treeItem, new TreeModificationEvent<>(valueChangedEvent(), treeItem, child));
+                        }
+                    }
+                    continue;
+                }
                 if (change.wasRemoved()) {
                     List<TreeItem<T>> removedItems = new ArrayList<>();
                     for (T t : change.getRemoved()) {
@@ -194,25 +472,354 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
                     }
                     if (originalItems.size() == removedItems.size()) {
                         originalItems.clear();
-                        getChildren().clear();
+                        if (!childrenDetached) {
+                            getChildren().clear();
+                        }
                     } else {
-                        getChildren().removeAll(removedItems);
+                        if (!childrenDetached) {
+                            getChildren().removeAll(removedItems);
+                        }
                         originalItems.removeAll(removedItems);
                     }
                 }
                 if (change.wasAdded()) {
                     List<RecursiveTreeItem<T>> addedItems = new ArrayList<>();
                     for (T newChild : change.getAddedSubList()) {
-                        final RecursiveTreeItem<T> newTreeItem = new RecursiveTreeItem<>(newChild, getGraphic(), childrenFactory);
+                        final RecursiveTreeItem<T> newTreeItem = createChild(newChild);
                         addedItems.add(newTreeItem);
                         itemsMap.put(newChild, newTreeItem);
                     }
-                    getChildren().addAll(addedItems);
-                    originalItems.addAll(addedItems);
+                    if (!childrenDetached) {
+                        getChildren().addAll(addedItems);
+                    }
+                    originalItems.addAll(Math.min(change.getFrom(), originalItems.size()), addedItems);
+                }
+            }
+        });
+
+    }
+
+    /**
+     * captures the children lists of this tree item and its descendants, so the filter
+     * can be computed off the FX thread. the data lists of collapsed lazy tree items are
+     * captured instead of creating their children.
+     * <p>
+     * <b>Note:</b> this method must be called from the FX thread
+     *
+     * @return the children snapshot used by {@link #computeFilter}
+     */
+    FilterSnapshot<T> createFilterSnapshot() {
+        final FilterSnapshot<T> snapshot = new FilterSnapshot<>();
+        captureChildren(snapshot);
+        return snapshot;
+    }
+
+    private void captureChildren(FilterSnapshot<T> snapshot) {
+        if (originalItems == null) {
+            return;
+        }
+        snapshot.items.put(this, new ArrayList<>(originalItems));
+        for (TreeItem<T> child : originalItems) {
+            if (child instanceof RecursiveTreeItem) {
+                final RecursiveTreeItem<T> recursiveChild = (RecursiveTreeItem<T>) child;
+                if (recursiveChild.isMaterialized()) {
+                    recursiveChild.captureChildren(snapshot);
+                } else {
+                    // collapsed lazy rows are filtered from their data, no tree items are created
+                    final List<T> values = recursiveChild.captureValues(recursiveChild.getValue(), snapshot);
+                    if (values != null) {
+                        snapshot.lazyItems.put(child, values);
+                    }
+                }
+            } else if (!child.getChildren().isEmpty()) {
+                snapshot.items.put(child, new ArrayList<>(child.getChildren()));
+            }
+        }
+    }
+
+    private List<T> captureValues(RecursiveTreeObject<T> value, FilterSnapshot<T> snapshot) {
+        final ObservableList<T> children = getValueChildren(value);
+        if (children == null || children.isEmpty()) {
+            return null;
+        }
+        final List<T> values = new ArrayList<>(children);
+        for (T child : values) {
+            final List<T> childValues = captureValues(child, snapshot);
+            if (childValues != null) {
+                snapshot.values.put(child, childValues);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * computes the visibility of the children of this tree item and its descendants
+     * against a snapshot of the children lists, neither the tree items nor their children
+     * lists are accessed so it can be safely called from a background thread.
+     *
+     * @param predicate  used to filter the tree items
+     * @param snapshot   children lists captured by {@link #createFilterSnapshot()}
+     * @param visibility map to be filled with the visibility of each evaluated tree item
+     * @param cancelled  checked between children, used to abandon a stale computation
+     * @param progress   notified with the ratio of filtered children of this tree item, can be null
+     * @return false if the computation was cancelled, true otherwise
+     */
+    boolean computeFilter(Predicate<TreeItem<T>> predicate,
+                          FilterSnapshot<T> snapshot,
+                          Map<TreeItem<T>, Boolean> visibility,
+                          BooleanSupplier cancelled,
+                          DoubleConsumer progress) {
+        final List<TreeItem<T>> children = snapshot.items.get(this);
+        if (children == null) {
+            return true;
+        }
+        final int size = children.size();
+        for (int i = 0; i < size; i++) {
+            if (cancelled.getAsBoolean()) {
+                return false;
+            }
+            final TreeItem<T> child = children.get(i);
+            final List<TreeItem<T>> grandChildren = snapshot.items.get(child);
+            boolean hasVisibleChildren = false;
+            if (child instanceof RecursiveTreeItem && grandChildren != null && !grandChildren.isEmpty()) {
+                if (!((RecursiveTreeItem<T>) child).computeFilter(predicate, snapshot, visibility, cancelled, null)) {
+                    return false;
+                }
+                for (TreeItem<T> grandChild : grandChildren) {
+                    if (visibility.getOrDefault(grandChild, false)) {
+                        hasVisibleChildren = true;
+                        break;
+                    }
                 }
+            } else if (snapshot.lazyItems.containsKey(child)) {
+                final int count = countVisibleValues(snapshot.lazyItems.get(child), snapshot.values::get,
+                    predicate, snapshot.probe, cancelled, true);
+                if (count < 0) {
+                    return false;
+                }
+                hasVisibleChildren = count > 0;
+            } else {
+                hasVisibleChildren = grandChildren != null && !grandChildren.isEmpty();
+            }
+            visibility.put(child, isVisible(child, hasVisibleChildren, predicate));
+            if (progress != null) {
+                progress.accept((i + 1) / (double) size);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * applies a filter computed by {@link #computeFilter} to this tree item and its descendants,
+     * tree items that were added after computing the filter are evaluated using the predicate.
+     * <p>
+     * <b>Note:</b> this method must be called from the FX thread
+     *
+     * @param predicate  used to compute the filter
+     * @param visibility computed visibility of the tree items
+     */
+    void applyFilter(Predicate<TreeItem<T>> predicate, Map<TreeItem<T>, Boolean> visibility) {
+        if (originalItems == null) {
+            return;
+        }
+        for (TreeItem<T> child : originalItems) {
+            if (child instanceof RecursiveTreeItem && isFilterable((RecursiveTreeItem<T>) child)) {
+                ((RecursiveTreeItem<T>) child).applyFilter(predicate, visibility);
+            } else if (child instanceof RecursiveTreeItem && !((RecursiveTreeItem<T>) child).isMaterialized()) {
+                // filtered once its children are created
+                ((RecursiveTreeItem<T>) child).assignFilter(predicate);
+            }
+        }
+        assignFilter(predicate);
+        // computed values are only used for this pass, later changes use the predicate
+        final Map<TreeItem<T>, Boolean> computed = new IdentityHashMap<>();
+        for (TreeItem<T> child : originalItems) {
+            final Boolean visible = visibility.get(child);
+            if (visible != null) {
+                computed.put(child, visible);
             }
+        }
+        filteredItems.setPredicate(child -> {
+            final Boolean visible = computed.remove(child);
+            return visible != null ? visible : isVisible(child, hasVisibleChildren(child, predicate), predicate);
         });
+    }
 
+    /*
+     * sets the predicate without filtering the sub tree
+     */
+    private void assignFilter(Predicate<TreeItem<T>> predicate) {
+        filtered = true;
+        applyingFilter = true;
+        try {
+            setPredicate(predicate);
+        } finally {
+            applyingFilter = false;
+        }
+    }
+
+    /*
+     * predicate of the children that are created after applying a filter
+     */
+    private Predicate<TreeItem<T>> createChildrenPredicate() {
+        if (!filtered) {
+            return (TreeItem<T> t) -> true;
+        }
+        final Predicate<TreeItem<T>> currentPredicate = getPredicate();
+        return child -> isVisible(child, hasVisibleChildren(child, currentPredicate), currentPredicate);
+    }
+
+    /*
+     * evaluated on the FX thread, collapsed lazy children are checked using their data
+     */
+    private static <T extends RecursiveTreeObject<T>> boolean hasVisibleChildren(TreeItem<T> child, Predicate<TreeItem<T>> predicate) {
+        if (child instanceof RecursiveTreeItem && !((RecursiveTreeItem<T>) child).isMaterialized()) {
+            final RecursiveTreeItem<T> lazyChild = (RecursiveTreeItem<T>) child;
+            final List<T> values = lazyChild.getValueChildren(lazyChild.getValue());
+            return values != null && countVisibleValues(values, lazyChild::getValueChildren,
+                predicate, new TreeItem<>(), () -> false, true) > 0;
+        }
+        return !child.getChildren().isEmpty();
+    }
+
+    /**
+     * counts the visible rows of a data sub tree that has no tree items, the predicate
+     * is evaluated using a probe tree item holding each value.
+     *
+     * @param stopAtFirst whether or not to return once a visible row is found
+     * @return the number of visible rows, -1 if the computation was cancelled
+     */
+    private static <T> int countVisibleValues(List<T> values,
+                                              Function<T, List<T>> childrenOf,
+                                              Predicate<TreeItem<T>> predicate,
+                                              TreeItem<T> probe,
+                                              BooleanSupplier cancelled,
+                                              boolean stopAtFirst) {
+        int count = 0;
+        for (T value : values) {
+            if (cancelled.getAsBoolean()) {
+                return -1;
+            }
+            final List<T> children = childrenOf.apply(value);
+            int childrenCount = 0;
+            if (children != null && !children.isEmpty()) {
+                childrenCount = countVisibleValues(children, childrenOf, predicate, probe, cancelled, stopAtFirst);
+                if (childrenCount < 0) {
+                    return -1;
+                }
+            }
+            boolean visible = predicate == null || childrenCount > 0;
+            if (!visible && (value == null || value.getClass() != RecursiveTreeObject.class)) {
+                probe.setValue(value);
+                visible = predicate.test(probe);
+            }
+            if (visible) {
+                count += childrenCount + (value != null && value.getClass() != RecursiveTreeObject.class ? 1 : 0);
+                if (stopAtFirst && count > 0) {
+                    return count;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean isFilterable(RecursiveTreeItem<?> item) {
+        return item.originalItems != null && !item.originalItems.isEmpty();
+    }
+
+    private static <T> boolean isVisible(TreeItem<T> child, boolean hasVisibleChildren, Predicate<TreeItem<T>> predicate) {
+        // If there is no predicate, keep this tree item
+        if (predicate == null) {
+            return true;
+        }
+        // If there are children, keep this tree item
+        if (hasVisibleChildren) {
+            return true;
+        }
+        // If its a group node, remove it as it has no children
+        if (child.getValue() instanceof RecursiveTreeObject &&
+            child.getValue().getClass() == RecursiveTreeObject.class) {
+            return false;
+        }
+        // Otherwise ask the TreeItemPredicate
+        return predicate.test(child);
+    }
+
+    /*
+     * leaves are kept in the data list order, so changes are mirrored by index
+     */
+    private void addLeavesListener(ObservableList<T> children, boolean attach) {
+        final List<TreeItem<T>> leaves = new ArrayList<>(children.size());
+        for (T child : children) {
+            leaves.add(new LeafTreeItem<>(child));
+        }
+        originalItems = FXCollections.observableArrayList(leaves);
+
+        filteredItems = new FilteredList<>(originalItems, (TreeItem<T> t) -> true);
+        filteredItems.predicateProperty().addListener(observable ->
+            JFXUtilities.runInFXAndWait(this::updateChildren));
+
+        if (attach) {
+            this.getChildren().addAll(originalItems);
+        }
+
+        children.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                final int from = change.getFrom();
+                final int to = change.getTo();
+                if (change.wasPermutated()) {
+                    final List<TreeItem<T>> permuted = new ArrayList<>(originalItems.subList(from, to));
+                    for (int i = from; i < to; i++) {
+                        permuted.set(change.getPermutation(i) - from, originalItems.get(i));
+                    }
+                    originalItems.remove(from, to);
+                    originalItems.addAll(from, permuted);
+                } else if (change.wasUpdated()) {
+                    // notify the tree (e.g. group index) that the row data was changed
+                    for (int i = from; i < to; i++) {
+                        final TreeItem<T> treeItem = originalItems.get(i);
+                        Event.fireEvent(treeItem, new TreeModificationEvent<>(valueChangedEvent(), treeItem, treeItem.getValue()));
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        final Set<TreeItem<T>> removedItems = Collections.newSetFromMap(new IdentityHashMap<>());
+                        removedItems.addAll(originalItems.subList(from, from + change.getRemovedSize()));
+                        originalItems.remove(from, from + change.getRemovedSize());
+                        if (leavesMap != null) {
+                            for (TreeItem<T> removedItem : removedItems) {
+                                if (removedItems.contains(leavesMap.get(removedItem.getValue()))) {
+                                    // another leaf may hold an equal value, rebuilt on the next lookup
+                                    leavesMap = null;
+                                    break;
+                                }
+                            }
+                        }
+                        if (!childrenDetached) {
+                            getChildren().removeAll(removedItems);
+                        }
+                    }
+                    if (change.wasAdded()) {
+                        final List<TreeItem<T>> addedItems = new ArrayList<>(change.getAddedSize());
+                        for (T newChild : change.getAddedSubList()) {
+                            addedItems.add(new LeafTreeItem<>(newChild));
+                        }
+                        originalItems.addAll(from, addedItems);
+                        if (leavesMap != null) {
+                            for (TreeItem<T> addedItem : addedItems) {
+                                if (leavesMap.putIfAbsent(addedItem.getValue(), addedItem) != null) {
+                                    // the added leaf may precede the mapped one, rebuilt on the next lookup
+                                    leavesMap = null;
+                                    break;
+                                }
+                            }
+                        }
+                        if (!childrenDetached) {
+                            getChildren().addAll(addedItems);
+                        }
+                    }
+                }
+            }
+        });
     }
 
     public final ObjectProperty<Predicate<TreeItem<T>>> predicateProperty() {
@@ -227,7 +834,57 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
         this.predicateProperty().set(predicate);
     }
 
+    /**
+     * @param value data value, matched using {@link Object#equals(Object)}
+     * @return the tree item of the value, if several rows hold equal values
+     * the first one is returned in flat mode
+     */
     public TreeItem<T> getTreeItem(T value) {
-        return itemsMap.get(value);
+        materialize();
+        if (flat) {
+            if (leavesMap == null) {
+                leavesMap = new HashMap<>(originalItems.size());
+                // reversed so the first leaf of a value wins, as with a linear lookup
+                for (int i = originalItems.size() - 1; i >= 0; i--) {
+                    final TreeItem<T> item = originalItems.get(i);
+                    leavesMap.put(item.getValue(), item);
+                }
+            }
+            return leavesMap.get(value);
+        }
+        return itemsMap == null ? null : itemsMap.get(value);
+    }
+
+    /**
+     * children lists captured on the FX thread, so the filter can be computed
+     * off the FX thread without reading the live children lists
+     */
+    static final class FilterSnapshot<T> {
+        private final Map<TreeItem<T>, List<TreeItem<T>>> items = new IdentityHashMap<>();
+        // data children of the collapsed lazy tree items and their descendants
+        private final Map<TreeItem<T>, List<T>> lazyItems = new IdentityHashMap<>();
+        private final Map<T, List<T>> values = new IdentityHashMap<>();
+        private final TreeItem<T> probe = new TreeItem<>();
+    }
+
+    /**
+     * lightweight tree item used by flat recursive tree items, it's always a leaf
+     * and shares an empty immutable children list
+     */
+    private static final class LeafTreeItem<T> extends TreeItem<T> {
+        private LeafTreeItem(T value) {
+            super(value);
+        }
+
+        @Override
+        public ObservableList<TreeItem<T>> getChildren() {
+            // shared immutable empty list
+            return FXCollections.emptyObservableList();
+        }
+
+        @Override
+        public boolean isLeaf() {
+            return true;
+        }
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls;
+
+import com.jfoenix.utils.JFXNodeUtils;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.control.Control;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * a single rippler shared by all the cells of a virtualized control (list / tree / tree table view).
+ * <p>
+ * instead of embedding a rippler in each cell, the shared rippler is added once on top of the
+ * virtual flow and moved over the pressed cell. it's mouse transparent and clipped to the
+ * viewport of the flow, so partially visible cells don't ripple over the control headers / borders.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class SharedCellRippler extends JFXRippler {
+
+    private final Control view;
+    private final Class<? extends IndexedCell> cellType;
+    private final Rectangle viewportClip = new Rectangle();
+    private final InvalidationListener cellBoundsListener = observable -> updateCellBounds();
+    private final InvalidationListener cellSizeListener = observable -> {
+        resetRippler();
+        updateCellBounds();
+    };
+    private final InvalidationListener cellIndexListener = observable -> releaseCell();
+    private final EventHandler<MouseEvent> pressedHandler = this::pressed;
+    private final EventHandler<MouseEvent> releasedHandler = event -> releaseRipple();
+
+    private IndexedCell<?> cell;
+    private Node viewport;
+
+    /**
+     * @param view     the virtualized control
+     * @param cellType the type of the cells to ripple, e.g. {@link javafx.scene.control.TreeTableRow}
+     *                 to ripple the whole row instead of the pressed table cell
+     */
+    SharedCellRippler(Control view, Class<? extends IndexedCell> cellType) {
+        this.view = view;
+        this.cellType = cellType;
+        setManaged(false);
+        setMouseTransparent(true);
+        setClip(viewportClip);
+        view.addEventFilter(MouseEvent.MOUSE_PRESSED, pressedHandler);
+        view.addEventFilter(MouseEvent.MOUSE_RELEASED, releasedHandler);
+    }
+
+    /**
+     * adds the rippler on top of the view children, it must be called again whenever
+     * the view skin is changed as the new skin adds its nodes to the same list
+     */
+    void attach(ObservableList<Node> children) {
+        children.remove(this);
+        children.add(this);
+    }
+
+    /**
+     * removes the rippler and its listeners from the view
+     */
+    void detach(ObservableList<Node> children) {
+        releaseCell();
+        children.remove(this);
+        view.removeEventFilter(MouseEvent.MOUSE_PRESSED, pressedHandler);
+        view.removeEventFilter(MouseEvent.MOUSE_RELEASED, releasedHandler);
+    }
+
+    private void pressed(MouseEvent event) {
+        final IndexedCell<?> pressedCell = findCell(event.getPickResult().getIntersectedNode());
+        if (pressedCell == null || pressedCell.isEmpty()) {
+            return;
+        }
+        if (cell != pressedCell) {
+            releaseCell();
+            cell = pressedCell;
+            // the pressed cell acts as the rippler control, so the ripple radius / mask
+            // and recentering are computed from its bounds
+            control = pressedCell;
+            viewport = findViewport(pressedCell);
+            cell.boundsInParentProperty().addListener(cellBoundsListener);
+            cell.layoutBoundsProperty().addListener(cellSizeListener);
+            cell.indexProperty().addListener(cellIndexListener);
+        }
+        updateCellBounds();
+        final Point2D point = cell.sceneToLocal(event.getSceneX(), event.getSceneY());
+        createRipple(point.getX(), point.getY());
+    }
+
+    /**
+     * detach the rippler from the current cell, any ripple in progress is removed
+     * as the cell is either replaced by another one or reused for another item
+     */
+    private void releaseCell() {
+        if (cell != null) {
+            cell.boundsInParentProperty().removeListener(cellBoundsListener);
+            cell.layoutBoundsProperty().removeListener(cellSizeListener);
+            cell.indexProperty().removeListener(cellIndexListener);
+            releaseRipple();
+            clearRipples();
+            cell = null;
+            viewport = null;
+        }
+    }
+
+    /**
+     * @return the outermost cell of the rippled type between the picked node and the view,
+     * so cells of nested lists are resolved to the cell that belongs to this view
+     */
+    private IndexedCell<?> findCell(Node picked) {
+        IndexedCell<?> found = null;
+        for (Node node = picked; node != null && node != view; node = node.getParent()) {
+            if (cellType.isInstance(node)) {
+                found = (IndexedCell<?>) node;
+            }
+        }
+        return found;
+    }
+
+    private Node findViewport(Node cell) {
+        for (Node node = cell.getParent(); node != null && node != view; node = node.getParent()) {
+            if (node.getStyleClass().contains("clipped-container")) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private void updateCellBounds() {
+        final Bounds cellBounds = view.sceneToLocal(cell.localToScene(cell.getLayoutBounds()));
+        resizeRelocate(cellBounds.getMinX(), cellBounds.getMinY(), cellBounds.getWidth(), cellBounds.getHeight());
+        final Bounds viewportBounds = viewport == null ? view.getLayoutBounds()
+            : view.sceneToLocal(viewport.localToScene(viewport.getLayoutBounds()));
+        viewportClip.setX(viewportBounds.getMinX() - cellBounds.getMinX());
+        viewportClip.setY(viewportBounds.getMinY() - cellBounds.getMinY());
+        viewportClip.setWidth(viewportBounds.getWidth());
+        viewportClip.setHeight(viewportBounds.getHeight());
+    }
+
+    @Override
+    protected Node getMask() {
+        Region clip = new Region();
+        if (control instanceof Region) {
+            JFXNodeUtils.updateBackground(((Region) control).getBackground(), clip);
+        }
+        clip.resize(control.getLayoutBounds().getWidth(), control.getLayoutBounds().getHeight());
+        return clip;
+    }
+
+    @Override
+    protected void initControlListeners() {
+        // ripples are triggered by the view event filters
+    }
+
+    @Override
+    protected void initControlBoundsListeners() {
+        // the control is the recycled pressed cell, its bounds are observed
+        // only while it's pressed (see cellSizeListener)
+    }
+
+    @Override
+    protected void positionControl(Node control) {
+        // do nothing, the cells stay in the virtual flow
+    }
+}
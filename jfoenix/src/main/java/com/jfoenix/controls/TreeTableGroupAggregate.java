@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXTreeTableColumn.Aggregate;
+import com.jfoenix.controls.datamodels.treetable.GroupAggregate;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * streaming {@link GroupAggregate} of a column values in a group node, it's updated
+ * incrementally by the group index as rows are added to / removed from the group.
+ * <p>
+ * only the aggregates declared by the column (see {@link JFXTreeTableColumn#getAggregates()})
+ * are computed, the others keep their initial values (0 / null).
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class TreeTableGroupAggregate implements GroupAggregate {
+
+    private final ReadOnlyIntegerWrapper count = new ReadOnlyIntegerWrapper(this, "count", 0);
+    private final ReadOnlyDoubleWrapper sum = new ReadOnlyDoubleWrapper(this, "sum", 0);
+    private final ReadOnlyDoubleWrapper average = new ReadOnlyDoubleWrapper(this, "average", 0);
+    private final ReadOnlyObjectWrapper<Object> min = new ReadOnlyObjectWrapper<>(this, "min");
+    private final ReadOnlyObjectWrapper<Object> max = new ReadOnlyObjectWrapper<>(this, "max");
+
+    private final boolean computeCount;
+    private final boolean computeSum;
+    private final boolean computeAverage;
+    private final boolean computeMin;
+    private final boolean computeMax;
+
+    private int numericCount = 0;
+    private double currentSum = 0;
+
+    /**
+     * sorted values along with their occurrences, used to compute min / max
+     */
+    private final TreeMap<Object, Integer> sortedValues;
+
+    /**
+     * @param aggregates to be computed
+     */
+    TreeTableGroupAggregate(Collection<Aggregate> aggregates) {
+        computeCount = aggregates.contains(Aggregate.COUNT);
+        computeSum = aggregates.contains(Aggregate.SUM);
+        computeAverage = aggregates.contains(Aggregate.AVERAGE);
+        computeMin = aggregates.contains(Aggregate.MIN);
+        computeMax = aggregates.contains(Aggregate.MAX);
+        // values are kept sorted in both cases, so removing the min / max value doesn't require a rescan
+        sortedValues = computeMin || computeMax ? new TreeMap<>(TreeTableGroupAggregate::compareValues) : null;
+    }
+
+    /**
+     * add a row value to the aggregate
+     *
+     * @param value cell value of the row
+     */
+    void add(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (computeCount) {
+            count.set(count.get() + 1);
+        }
+        final Object sortedValue = toSortedValue(value);
+        if (sortedValue != null) {
+            sortedValues.merge(sortedValue, 1, Integer::sum);
+        }
+        if (value instanceof Number && (computeSum || computeAverage)) {
+            numericCount++;
+            currentSum += ((Number) value).doubleValue();
+        }
+        updateValues(value, sortedValue);
+    }
+
+    /**
+     * remove a row value from the aggregate, the value must be previously added
+     *
+     * @param value cell value of the row
+     */
+    void remove(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (computeCount) {
+            count.set(count.get() - 1);
+        }
+        final Object sortedValue = toSortedValue(value);
+        if (sortedValue != null) {
+            sortedValues.computeIfPresent(sortedValue, (key, occurrences) -> occurrences == 1 ? null : occurrences - 1);
+        }
+        if (value instanceof Number && (computeSum || computeAverage)) {
+            numericCount--;
+            currentSum = numericCount == 0 ? 0 : currentSum - ((Number) value).doubleValue();
+        }
+        updateValues(value, sortedValue);
+    }
+
+    /*
+     * numeric values are kept as doubles, other values are only sorted if they are comparable
+     */
+    private Object toSortedValue(Object value) {
+        if (sortedValues == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return value instanceof Comparable ? value : null;
+    }
+
+    private void updateValues(Object value, Object sortedValue) {
+        if (value instanceof Number) {
+            if (computeSum) {
+                sum.set(currentSum);
+            }
+            if (computeAverage) {
+                average.set(numericCount == 0 ? 0 : currentSum / numericCount);
+            }
+        }
+        if (sortedValue != null) {
+            if (computeMin) {
+                final Map.Entry<Object, Integer> first = sortedValues.firstEntry();
+                min.set(first == null ? null : first.getKey());
+            }
+            if (computeMax) {
+                final Map.Entry<Object, Integer> last = sortedValues.lastEntry();
+                max.set(last == null ? null : last.getKey());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object a, Object b) {
+        final boolean aNumber = a instanceof Double;
+        final boolean bNumber = b instanceof Double;
+        if (aNumber || bNumber) {
+            return aNumber && bNumber ? Double.compare((Double) a, (Double) b) : aNumber ? -1 : 1;
+        }
+        if (a.getClass() != b.getClass()) {
+            return a.getClass().getName().compareTo(b.getClass().getName());
+        }
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty countProperty() {
+        return count.getReadOnlyProperty();
+    }
+
+    @Override
+    public int getCount() {
+        return count.get();
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty sumProperty() {
+        return sum.getReadOnlyProperty();
+    }
+
+    @Override
+    public double getSum() {
+        return sum.get();
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty averageProperty() {
+        return average.getReadOnlyProperty();
+    }
+
+    @Override
+    public double getAverage() {
+        return average.get();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Object> minProperty() {
+        return min.getReadOnlyProperty();
+    }
+
+    @Override
+    public Object getMin() {
+        return min.get();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Object> maxProperty() {
+        return max.getReadOnlyProperty();
+    }
+
+    @Override
+    public Object getMax() {
+        return max.get();
+    }
+}
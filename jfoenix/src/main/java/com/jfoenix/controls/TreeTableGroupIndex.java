@@ -0,0 +1,470 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.concurrency.JFXUtilities;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+/**
+ * TreeTableGroupIndex keeps the grouped tree of {@link JFXTreeTableView} in sync
+ * with the filtered rows of the original root.
+ * <p>
+ * Rows are bucketed by the cell data of the grouped columns, add / remove / update
+ * deltas are applied directly to the affected group tree items, so the grouped root
+ * is built once per group order and never rebuilt when the data changes.
+ * <p>
+ * <b>Note:</b> except for the initial {@link #addAll(List)} on a detached index,
+ * all methods must be called from the FX application thread.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class TreeTableGroupIndex<S extends RecursiveTreeObject<S>> {
+
+    private final List<TreeTableColumn<S, ?>> columns;
+    private final BiFunction<TreeTableColumn<S, ?>, TreeItem<S>, Object> groupKey;
+    private final Runnable groupToggled;
+    private final GroupBucket<S> rootBucket;
+
+    /**
+     * map each grouped row to its leaf bucket
+     */
+    private final Map<TreeItem<S>, GroupBucket<S>> leafBuckets = new IdentityHashMap<>();
+
+    /**
+     * columns that have aggregates, and the values each row contributed to them
+     */
+    private final List<JFXTreeTableColumn<S, ?>> aggregatedColumns = new ArrayList<>();
+    private final Map<TreeItem<S>, Object[]> aggregatedValues = new IdentityHashMap<>();
+
+    /**
+     * @param tableColumns columns of the tree table view, used to find the aggregated columns
+     * @param columns      grouped columns in the group order
+     * @param groupToggled called whenever a group node is expanded / collapsed
+     */
+    TreeTableGroupIndex(List<TreeTableColumn<S, ?>> tableColumns, List<TreeTableColumn<S, ?>> columns,
+                        Runnable groupToggled) {
+        this(tableColumns, columns, groupToggled, TreeTableGroupIndex::getGroupKey);
+    }
+
+    /**
+     * @param groupKey returns the group key of a row for a column, it must be thread safe
+     *                 if the index is built using {@link #addAllParallel(List, ForkJoinPool)}
+     */
+    TreeTableGroupIndex(List<TreeTableColumn<S, ?>> tableColumns, List<TreeTableColumn<S, ?>> columns,
+                        Runnable groupToggled, BiFunction<TreeTableColumn<S, ?>, TreeItem<S>, Object> groupKey) {
+        this.columns = new ArrayList<>(columns);
+        this.groupToggled = groupToggled;
+        this.groupKey = groupKey;
+        collectAggregatedColumns(tableColumns);
+        this.rootBucket = new GroupBucket<>(null, null,
+            new RecursiveTreeItem<>(new RecursiveTreeObject(), RecursiveTreeObject::getChildren));
+        // rows fire value changed events when their data is updated (see RecursiveTreeItem),
+        // the events bubble up through the group nodes to the grouped root
+        rootBucket.item.addEventHandler(TreeItem.<S>valueChangedEvent(), event -> {
+            final TreeItem<S> treeItem = event.getTreeItem();
+            JFXUtilities.runInFX(() -> update(treeItem));
+        });
+    }
+
+    private void collectAggregatedColumns(List<TreeTableColumn<S, ?>> tableColumns) {
+        for (TreeTableColumn<S, ?> column : tableColumns) {
+            if (column instanceof JFXTreeTableColumn && !((JFXTreeTableColumn<S, ?>) column).getAggregates().isEmpty()) {
+                aggregatedColumns.add((JFXTreeTableColumn<S, ?>) column);
+            }
+            collectAggregatedColumns(column.getColumns());
+        }
+    }
+
+    RecursiveTreeItem<S> getRoot() {
+        return rootBucket.item;
+    }
+
+    List<TreeTableColumn<S, ?>> getColumns() {
+        return columns;
+    }
+
+    /**
+     * add rows to the index, used to build the grouped root
+     *
+     * @param items rows to be grouped
+     */
+    void addAll(List<? extends TreeItem<S>> items) {
+        apply(Collections.emptyList(), items);
+    }
+
+    /**
+     * add rows to the index, the rows are partitioned across the specified pool
+     * to extract their group keys in parallel, the partial groups are merged in the
+     * rows order so the resulting group order is the same as {@link #addAll(List)}
+     *
+     * @param items rows to be grouped
+     * @param pool  fork join pool used to group the rows
+     */
+    void addAllParallel(List<? extends TreeItem<S>> items, ForkJoinPool pool) {
+        final Map<List<Object>, List<TreeItem<S>>> groups = pool.invoke(new GroupByTask<>(columns, groupKey, items, 0, items.size()));
+        for (Map.Entry<List<Object>, List<TreeItem<S>>> entry : groups.entrySet()) {
+            GroupBucket<S> bucket = rootBucket;
+            final List<Object> keys = entry.getKey();
+            for (int i = 0; i < keys.size(); i++) {
+                bucket = getOrCreateBucket(bucket, keys.get(i), i);
+            }
+            final List<TreeItem<S>> leaves = new ArrayList<>(entry.getValue().size());
+            for (TreeItem<S> item : entry.getValue()) {
+                if (!leafBuckets.containsKey(item)) {
+                    leafBuckets.put(item, bucket);
+                    leaves.add(item);
+                }
+            }
+            addLeaves(bucket, leaves);
+        }
+    }
+
+    /**
+     * apply a delta of the filtered rows to the affected group buckets,
+     * rows that are both removed and added (e.g. when refiltering) are left untouched
+     *
+     * @param removed rows that are no longer visible
+     * @param added   rows that became visible
+     */
+    void apply(List<? extends TreeItem<S>> removed, List<? extends TreeItem<S>> added) {
+        final Set<TreeItem<S>> removedSet = newIdentitySet(removed.size());
+        removedSet.addAll(removed);
+
+        final List<TreeItem<S>> addedItems = new ArrayList<>();
+        for (TreeItem<S> item : added) {
+            if (!removedSet.remove(item) && !leafBuckets.containsKey(item)) {
+                addedItems.add(item);
+            }
+        }
+
+        // remove first, so pruned buckets are not reused by the added rows
+        final Map<GroupBucket<S>, Set<TreeItem<S>>> removals = new LinkedHashMap<>();
+        for (TreeItem<S> item : removedSet) {
+            final GroupBucket<S> bucket = leafBuckets.remove(item);
+            if (bucket != null) {
+                removals.computeIfAbsent(bucket, b -> newIdentitySet(16)).add(item);
+            }
+        }
+        for (Map.Entry<GroupBucket<S>, Set<TreeItem<S>>> entry : removals.entrySet()) {
+            removeLeaves(entry.getKey(), entry.getValue());
+        }
+
+        final Map<GroupBucket<S>, List<TreeItem<S>>> additions = new LinkedHashMap<>();
+        for (TreeItem<S> item : addedItems) {
+            final GroupBucket<S> bucket = resolve(item);
+            additions.computeIfAbsent(bucket, b -> new ArrayList<>()).add(item);
+            leafBuckets.put(item, bucket);
+        }
+        for (Map.Entry<GroupBucket<S>, List<TreeItem<S>>> entry : additions.entrySet()) {
+            addLeaves(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * reorder the rows inside their group buckets to match their new order (e.g. when
+     * the data list is sorted), rows that were not permuted keep their positions
+     *
+     * @param permuted permuted rows in their new order
+     */
+    void reorder(List<? extends TreeItem<S>> permuted) {
+        final Set<TreeItem<S>> permutedSet = newIdentitySet(permuted.size());
+        final Map<GroupBucket<S>, List<TreeItem<S>>> buckets = new LinkedHashMap<>();
+        for (TreeItem<S> item : permuted) {
+            final GroupBucket<S> bucket = leafBuckets.get(item);
+            if (bucket != null) {
+                permutedSet.add(item);
+                buckets.computeIfAbsent(bucket, b -> new ArrayList<>()).add(item);
+            }
+        }
+        for (Map.Entry<GroupBucket<S>, List<TreeItem<S>>> entry : buckets.entrySet()) {
+            final RecursiveTreeItem<S> node = entry.getKey().item;
+            final List<TreeItem<S>> leaves = new ArrayList<>(node.originalItems);
+            final Iterator<TreeItem<S>> ordered = entry.getValue().iterator();
+            for (int i = 0; i < leaves.size(); i++) {
+                if (permutedSet.contains(leaves.get(i))) {
+                    leaves.set(i, ordered.next());
+                }
+            }
+            node.originalItems.setAll(leaves);
+            node.getChildren().setAll(leaves);
+        }
+    }
+
+    /**
+     * synchronize the index with the specified rows, used when the rows
+     * were modified while the index was being built
+     *
+     * @param items currently visible rows
+     */
+    void sync(List<? extends TreeItem<S>> items) {
+        final Set<TreeItem<S>> current = newIdentitySet(items.size());
+        current.addAll(items);
+        final List<TreeItem<S>> removed = new ArrayList<>();
+        for (TreeItem<S> item : leafBuckets.keySet()) {
+            if (!current.contains(item)) {
+                removed.add(item);
+            }
+        }
+        apply(removed, new ArrayList<>(items));
+    }
+
+    /**
+     * move the row to its new group bucket if its grouped values were changed
+     *
+     * @param item updated row
+     */
+    void update(TreeItem<S> item) {
+        final GroupBucket<S> bucket = leafBuckets.get(item);
+        if (bucket == null) {
+            return;
+        }
+        final GroupBucket<S> newBucket = resolve(item);
+        if (newBucket != bucket) {
+            removeLeaves(bucket, Collections.singleton(item));
+            leafBuckets.put(item, newBucket);
+            addLeaves(newBucket, Collections.singletonList(item));
+        } else if (!aggregatedColumns.isEmpty()) {
+            final Object[] oldValues = aggregatedValues.get(item);
+            final Object[] newValues = getAggregatedValues(item);
+            if (!Arrays.equals(oldValues, newValues)) {
+                aggregate(bucket, oldValues, false);
+                aggregate(bucket, newValues, true);
+                aggregatedValues.put(item, newValues);
+            }
+        }
+    }
+
+    private GroupBucket<S> resolve(TreeItem<S> item) {
+        GroupBucket<S> bucket = rootBucket;
+        for (int i = 0; i < columns.size(); i++) {
+            bucket = getOrCreateBucket(bucket, groupKey.apply(columns.get(i), item), i);
+        }
+        return bucket;
+    }
+
+    private GroupBucket<S> getOrCreateBucket(GroupBucket<S> parent, Object key, int groupIndex) {
+        final GroupBucket<S> bucket = parent.subGroups.get(key);
+        return bucket == null ? createBucket(parent, key, groupIndex) : bucket;
+    }
+
+    private GroupBucket<S> createBucket(GroupBucket<S> parent, Object key, int groupIndex) {
+        RecursiveTreeObject groupItem = new RecursiveTreeObject<>();
+        groupItem.setGroupedValue(key);
+        groupItem.setGroupedColumn(columns.get(groupIndex));
+
+        RecursiveTreeItem node = new RecursiveTreeItem<>(groupItem, RecursiveTreeObject::getChildren);
+        node.expandedProperty().addListener((o, oldVal, newVal) -> groupToggled.run());
+
+        final GroupBucket<S> bucket = new GroupBucket<>(parent, key, node);
+        if (!aggregatedColumns.isEmpty()) {
+            bucket.aggregates = new TreeTableGroupAggregate[aggregatedColumns.size()];
+            for (int i = 0; i < aggregatedColumns.size(); i++) {
+                final JFXTreeTableColumn<S, ?> column = aggregatedColumns.get(i);
+                bucket.aggregates[i] = new TreeTableGroupAggregate(column.getAggregates());
+                groupItem.getGroupedAggregates().put(column, bucket.aggregates[i]);
+            }
+        }
+        parent.subGroups.put(key, bucket);
+        parent.item.originalItems.add(node);
+        parent.item.getChildren().add(node);
+        return bucket;
+    }
+
+    private void addLeaves(GroupBucket<S> bucket, List<TreeItem<S>> items) {
+        bucket.item.originalItems.addAll(items);
+        bucket.item.getChildren().addAll(items);
+        updateCount(bucket, items.size());
+        if (!aggregatedColumns.isEmpty()) {
+            for (TreeItem<S> item : items) {
+                final Object[] values = getAggregatedValues(item);
+                aggregatedValues.put(item, values);
+                aggregate(bucket, values, true);
+            }
+        }
+    }
+
+    private void removeLeaves(GroupBucket<S> bucket, Collection<TreeItem<S>> items) {
+        bucket.item.originalItems.removeAll(items);
+        bucket.item.getChildren().removeAll(items);
+        updateCount(bucket, -items.size());
+        if (!aggregatedColumns.isEmpty()) {
+            for (TreeItem<S> item : items) {
+                aggregate(bucket, aggregatedValues.remove(item), false);
+            }
+        }
+        prune(bucket);
+    }
+
+    private Object[] getAggregatedValues(TreeItem<S> item) {
+        final Object[] values = new Object[aggregatedColumns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = groupKey.apply(aggregatedColumns.get(i), item);
+        }
+        return values;
+    }
+
+    /*
+     * add / remove the row values to the aggregates of the bucket and its parent groups
+     */
+    private void aggregate(GroupBucket<S> bucket, Object[] values, boolean add) {
+        if (values == null) {
+            return;
+        }
+        for (GroupBucket<S> group = bucket; group != rootBucket; group = group.parent) {
+            for (int i = 0; i < values.length; i++) {
+                if (add) {
+                    group.aggregates[i].add(values[i]);
+                } else {
+                    group.aggregates[i].remove(values[i]);
+                }
+            }
+        }
+    }
+
+    /*
+     * update the rows count of the bucket and its parent groups
+     */
+    private void updateCount(GroupBucket<S> bucket, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        for (GroupBucket<S> group = bucket; group != rootBucket; group = group.parent) {
+            final RecursiveTreeObject<?> groupItem = group.item.getValue();
+            groupItem.setGroupedItemsCount(groupItem.getGroupedItemsCount() + delta);
+        }
+    }
+
+    /*
+     * remove empty group nodes up to the grouped root
+     */
+    private void prune(GroupBucket<S> bucket) {
+        while (bucket != rootBucket && bucket.item.originalItems.isEmpty()) {
+            final GroupBucket<S> parent = bucket.parent;
+            parent.subGroups.remove(bucket.key);
+            parent.item.originalItems.remove(bucket.item);
+            parent.item.getChildren().remove(bucket.item);
+            bucket = parent;
+        }
+    }
+
+    /**
+     * @return the group key of the row, using the column key cache if supported
+     */
+    static <S> Object getGroupKey(TreeTableColumn<S, ?> column, TreeItem<S> item) {
+        if (column instanceof JFXTreeTableColumn) {
+            return ((JFXTreeTableColumn<S, ?>) column).getGroupKey(item);
+        }
+        return column.getCellData(item);
+    }
+
+    private static <T> Set<T> newIdentitySet(int expectedSize) {
+        return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+    }
+
+    /**
+     * groups a range of rows by their key path, ranges larger than the threshold
+     * are split and grouped in parallel then merged in order
+     */
+    private static final class GroupByTask<S> extends RecursiveTask<Map<List<Object>, List<TreeItem<S>>>> {
+        private static final int THRESHOLD = 2048;
+
+        private final List<TreeTableColumn<S, ?>> columns;
+        private final BiFunction<TreeTableColumn<S, ?>, TreeItem<S>, Object> groupKey;
+        private final List<? extends TreeItem<S>> items;
+        private final int from;
+        private final int to;
+
+        private GroupByTask(List<TreeTableColumn<S, ?>> columns,
+                            BiFunction<TreeTableColumn<S, ?>, TreeItem<S>, Object> groupKey,
+                            List<? extends TreeItem<S>> items, int from, int to) {
+            this.columns = columns;
+            this.groupKey = groupKey;
+            this.items = items;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<List<Object>, List<TreeItem<S>>> compute() {
+            if (to - from <= THRESHOLD) {
+                final Map<List<Object>, List<TreeItem<S>>> groups = new LinkedHashMap<>();
+                for (int i = from; i < to; i++) {
+                    final TreeItem<S> item = items.get(i);
+                    final List<Object> keys = new ArrayList<>(columns.size());
+                    for (TreeTableColumn<S, ?> column : columns) {
+                        keys.add(groupKey.apply(column, item));
+                    }
+                    groups.computeIfAbsent(keys, k -> new ArrayList<>()).add(item);
+                }
+                return groups;
+            }
+            final int mid = (from + to) >>> 1;
+            final GroupByTask<S> left = new GroupByTask<>(columns, groupKey, items, from, mid);
+            left.fork();
+            final Map<List<Object>, List<TreeItem<S>>> rightGroups = new GroupByTask<>(columns, groupKey, items, mid, to).compute();
+            final Map<List<Object>, List<TreeItem<S>>> groups = left.join();
+            // merge right into left to keep the rows order
+            for (Map.Entry<List<Object>, List<TreeItem<S>>> entry : rightGroups.entrySet()) {
+                final List<TreeItem<S>> leftItems = groups.get(entry.getKey());
+                if (leftItems == null) {
+                    groups.put(entry.getKey(), entry.getValue());
+                } else {
+                    leftItems.addAll(entry.getValue());
+                }
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * group node along with its sub groups
+     */
+    private static final class GroupBucket<S extends RecursiveTreeObject<S>> {
+        private final GroupBucket<S> parent;
+        private final Object key;
+        private final RecursiveTreeItem<S> item;
+        private final Map<Object, GroupBucket<S>> subGroups = new LinkedHashMap<>();
+        private TreeTableGroupAggregate[] aggregates;
+
+        private GroupBucket(GroupBucket<S> parent, Object key, RecursiveTreeItem<S> item) {
+            this.parent = parent;
+            this.key = key;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+
+/**
+ * aggregate of a column values in a group node, see {@link RecursiveTreeObject#getGroupedAggregate(javafx.scene.control.TreeTableColumn)}.
+ * it's updated incrementally as rows are added to / removed from the group, only the aggregates
+ * declared by the column are computed, the others keep their initial values (0 / null).
+ * <p>
+ * count is the number of non null values, sum / average are computed from the
+ * numeric values. min / max are computed from the numeric values and the {@link Comparable}
+ * values, numeric values are ordered before the other values and values of different
+ * classes are ordered by their class name, other values are ignored.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface GroupAggregate {
+
+    /**
+     * @return the number of non null values, 0 if the count is not computed
+     */
+    ReadOnlyIntegerProperty countProperty();
+
+    int getCount();
+
+    /**
+     * @return the sum of the numeric values, 0 if the sum is not computed
+     */
+    ReadOnlyDoubleProperty sumProperty();
+
+    double getSum();
+
+    /**
+     * @return the average of the numeric values, 0 if the average is not computed
+     */
+    ReadOnlyDoubleProperty averageProperty();
+
+    double getAverage();
+
+    /**
+     * @return min value (numeric values are returned as Double), null if there are no values
+     * or the min is not computed
+     */
+    ReadOnlyObjectProperty<Object> minProperty();
+
+    Object getMin();
+
+    /**
+     * @return max value (numeric values are returned as Double), null if there are no values
+     * or the max is not computed
+     */
+    ReadOnlyObjectProperty<Object> maxProperty();
+
+    Object getMax();
+}
@@ -19,10 +19,13 @@
 
 package com.jfoenix.controls.datamodels.treetable;
 
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.scene.control.TreeTableColumn;
 
 /**
@@ -39,11 +42,14 @@ import javafx.scene.control.TreeTableColumn;
 public class RecursiveTreeObject<T> {
 
     /**
-     * grouped children objects
+     * grouped children objects, created on demand
      */
-    ObservableList<T> children = FXCollections.observableArrayList();
+    ObservableList<T> children;
 
     public ObservableList<T> getChildren() {
+        if (children == null) {
+            children = FXCollections.observableArrayList();
+        }
         return children;
     }
 
@@ -52,16 +58,28 @@ public class RecursiveTreeObject<T> {
     }
 
     /**
-     * Whether or not the object is grouped by a specified tree table column
+     * @return true if the object has children, unlike {@link #getChildren()}
+     * it doesn't create the children list
      */
-    ObjectProperty<TreeTableColumn<T, ?>> groupedColumn = new SimpleObjectProperty<>();
+    public boolean hasChildren() {
+        return children != null && !children.isEmpty();
+    }
+
+    /**
+     * Whether or not the object is grouped by a specified tree table column,
+     * only created for group nodes to reduce the memory footprint of the rows
+     */
+    ObjectProperty<TreeTableColumn<T, ?>> groupedColumn;
 
     public final ObjectProperty<TreeTableColumn<T, ?>> groupedColumnProperty() {
+        if (groupedColumn == null) {
+            groupedColumn = new SimpleObjectProperty<>();
+        }
         return this.groupedColumn;
     }
 
     public final TreeTableColumn<T, ?> getGroupedColumn() {
-        return this.groupedColumnProperty().get();
+        return groupedColumn == null ? null : this.groupedColumn.get();
     }
 
     public final void setGroupedColumn(final TreeTableColumn<T, ?> groupedColumn) {
@@ -69,21 +87,64 @@ public class RecursiveTreeObject<T> {
     }
 
     /**
-     * the value that must be shown when grouped
+     * the value that must be shown when grouped, only created for group nodes
      */
-    ObjectProperty<Object> groupedValue = new SimpleObjectProperty<>();
+    ObjectProperty<Object> groupedValue;
 
     public final ObjectProperty<Object> groupedValueProperty() {
+        if (groupedValue == null) {
+            groupedValue = new SimpleObjectProperty<>();
+        }
         return this.groupedValue;
     }
 
     public final java.lang.Object getGroupedValue() {
-        return this.groupedValueProperty().get();
+        return groupedValue == null ? null : this.groupedValue.get();
     }
 
     public final void setGroupedValue(final java.lang.Object groupedValue) {
         this.groupedValueProperty().set(groupedValue);
     }
 
+    /**
+     * the number of rows in the group, only created for group nodes
+     */
+    IntegerProperty groupedItemsCount;
+
+    public final IntegerProperty groupedItemsCountProperty() {
+        if (groupedItemsCount == null) {
+            groupedItemsCount = new SimpleIntegerProperty(0);
+        }
+        return this.groupedItemsCount;
+    }
+
+    public final int getGroupedItemsCount() {
+        return groupedItemsCount == null ? 0 : this.groupedItemsCount.get();
+    }
+
+    public final void setGroupedItemsCount(final int groupedItemsCount) {
+        this.groupedItemsCountProperty().set(groupedItemsCount);
+    }
+
+    /**
+     * aggregates of the group rows mapped by column, only created for group nodes
+     */
+    ObservableMap<TreeTableColumn<T, ?>, GroupAggregate> groupedAggregates;
+
+    public final ObservableMap<TreeTableColumn<T, ?>, GroupAggregate> getGroupedAggregates() {
+        if (groupedAggregates == null) {
+            groupedAggregates = FXCollections.observableHashMap();
+        }
+        return groupedAggregates;
+    }
+
+    /**
+     * @param column aggregated column
+     * @return the aggregate of the column values in this group, or null if the column is not aggregated
+     */
+    public final GroupAggregate getGroupedAggregate(TreeTableColumn<T, ?> column) {
+        return groupedAggregates == null ? null : groupedAggregates.get(column);
+    }
+
 
 }
@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.controls.JFXAutoCompletePopup;
 import com.jfoenix.controls.events.JFXAutoCompleteEvent;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import javafx.animation.Animation.Status;
 import javafx.animation.*;
 import javafx.beans.InvalidationListener;
@@ -136,6 +137,7 @@ public class JFXAutoCompletePopupSkin<T> implements Skin<JFXAutoCompletePopup<T>
                 suggestionList.setOpacity(1);
                 trans.play();
             });
+            JFXAnimationMetrics.track(showTransition, "JFXAutoCompletePopupSkin.showTransition", getSkinnable());
             showTransition.play();
         }
     }
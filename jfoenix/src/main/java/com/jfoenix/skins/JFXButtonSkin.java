@@ -46,44 +46,35 @@ import javafx.util.Duration;
 public class JFXButtonSkin extends ButtonSkin {
 
     private Transition clickedAnimation;
+    // the rippler is created on the first press / focus
     private JFXRippler buttonRippler;
     private Runnable releaseManualRippler = null;
-    private boolean invalid = true;
     private boolean mousePressed = false;
 
     public JFXButtonSkin(JFXButton button) {
         super(button);
 
-        buttonRippler = new JFXRippler(getSkinnable()) {
-            @Override
-            protected Node getMask() {
-                StackPane mask = new StackPane();
-                mask.shapeProperty().bind(getSkinnable().shapeProperty());
-                JFXNodeUtils.updateBackground(getSkinnable().getBackground(), mask);
-                mask.resize(getWidth() - snappedRightInset() - snappedLeftInset(),
-                    getHeight() - snappedBottomInset() - snappedTopInset());
-                return mask;
-            }
-
-            @Override
-            protected void positionControl(Node control) {
-                // do nothing as the controls is not inside the ripple
-            }
-        };
-
         // add listeners to the button and bind properties
         button.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> playClickAnimation(1));
 //        button.addEventHandler(MouseEvent.MOUSE_RELEASED, e -> playClickAnimation(-1));
-        button.addEventFilter(MouseEvent.MOUSE_PRESSED, e-> mousePressed = true);
+        button.addEventFilter(MouseEvent.MOUSE_PRESSED, e -> {
+            mousePressed = true;
+            // the rippler press handler is still invoked for this press
+            getRippler();
+        });
         button.addEventFilter(MouseEvent.MOUSE_RELEASED, e-> mousePressed = false);
         button.addEventFilter(MouseEvent.MOUSE_DRAGGED, e-> mousePressed = false);
 
-        button.ripplerFillProperty().addListener((o, oldVal, newVal) -> buttonRippler.setRipplerFill(newVal));
+        button.ripplerFillProperty().addListener((o, oldVal, newVal) -> {
+            if (buttonRippler != null) {
+                buttonRippler.setRipplerFill(newVal);
+            }
+        });
 
         button.armedProperty().addListener((o, oldVal, newVal) -> {
             if (newVal) {
                 if (!mousePressed) {
-                    releaseManualRippler = buttonRippler.createManualRipple();
+                    releaseManualRippler = getRippler().createManualRipple();
                     playClickAnimation(1);
                 }
             } else {
@@ -100,9 +91,9 @@ public class JFXButtonSkin extends ButtonSkin {
             if(!button.disableVisualFocusProperty().get()){
                 if (newVal){
                     if (!getSkinnable().isPressed()){
-                        buttonRippler.setOverlayVisible(true);
+                        getRippler().setOverlayVisible(true);
                     }
-                } else{
+                } else if (buttonRippler != null) {
                     buttonRippler.setOverlayVisible(false);
                 }
             }
@@ -132,35 +123,66 @@ public class JFXButtonSkin extends ButtonSkin {
         }
     }
 
-    @Override
-    protected void layoutChildren(final double x, final double y, final double w, final double h) {
-        if (invalid) {
-            if (((JFXButton) getSkinnable()).getRipplerFill() == null) {
-                // change rippler fill according to the last LabeledText/Label child
-                for (int i = getChildren().size() - 1; i >= 1; i--) {
-                    if (getChildren().get(i) instanceof LabeledText) {
-                        buttonRippler.setRipplerFill(((LabeledText) getChildren().get(i)).getFill());
-                        ((LabeledText) getChildren().get(i)).fillProperty()
-                            .addListener((o, oldVal, newVal) -> buttonRippler.setRipplerFill(
-                                newVal));
-                        break;
-                    } else if (getChildren().get(i) instanceof Label) {
-                        buttonRippler.setRipplerFill(((Label) getChildren().get(i)).getTextFill());
-                        ((Label) getChildren().get(i)).textFillProperty()
-                            .addListener((o, oldVal, newVal) -> buttonRippler.setRipplerFill(
-                                newVal));
-                        break;
-                    }
+    private JFXRippler getRippler() {
+        if (buttonRippler == null) {
+            buttonRippler = new JFXRippler(getSkinnable()) {
+                @Override
+                protected Node getMask() {
+                    StackPane mask = new StackPane();
+                    mask.shapeProperty().bind(getSkinnable().shapeProperty());
+                    JFXNodeUtils.updateBackground(getSkinnable().getBackground(), mask);
+                    mask.resize(getWidth() - snappedRightInset() - snappedLeftInset(),
+                        getHeight() - snappedBottomInset() - snappedTopInset());
+                    return mask;
+                }
+
+                @Override
+                protected void positionControl(Node control) {
+                    // do nothing as the controls is not inside the ripple
+                }
+            };
+            getChildren().add(0, buttonRippler);
+            updateRipplerFill();
+            layoutRippler();
+        }
+        return buttonRippler;
+    }
+
+    private void updateRipplerFill() {
+        if (((JFXButton) getSkinnable()).getRipplerFill() == null) {
+            // change rippler fill according to the last LabeledText/Label child
+            for (int i = getChildren().size() - 1; i >= 1; i--) {
+                if (getChildren().get(i) instanceof LabeledText) {
+                    buttonRippler.setRipplerFill(((LabeledText) getChildren().get(i)).getFill());
+                    ((LabeledText) getChildren().get(i)).fillProperty()
+                        .addListener((o, oldVal, newVal) -> buttonRippler.setRipplerFill(
+                            newVal));
+                    break;
+                } else if (getChildren().get(i) instanceof Label) {
+                    buttonRippler.setRipplerFill(((Label) getChildren().get(i)).getTextFill());
+                    ((Label) getChildren().get(i)).textFillProperty()
+                        .addListener((o, oldVal, newVal) -> buttonRippler.setRipplerFill(
+                            newVal));
+                    break;
                 }
-            } else {
-                buttonRippler.setRipplerFill(((JFXButton) getSkinnable()).getRipplerFill());
             }
-            invalid = false;
+        } else {
+            buttonRippler.setRipplerFill(((JFXButton) getSkinnable()).getRipplerFill());
         }
+    }
+
+    private void layoutRippler() {
         buttonRippler.resizeRelocate(
             getSkinnable().getLayoutBounds().getMinX(),
             getSkinnable().getLayoutBounds().getMinY(),
             getSkinnable().getWidth(), getSkinnable().getHeight());
+    }
+
+    @Override
+    protected void layoutChildren(final double x, final double y, final double w, final double h) {
+        if (buttonRippler != null) {
+            layoutRippler();
+        }
         layoutLabelInArea(x, y, w, h);
     }
 
@@ -23,6 +23,7 @@ import com.jfoenix.controls.JFXRippler;
 import com.jfoenix.controls.behavior.JFXColorPickerBehavior;
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.utils.JFXNodeUtils;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import com.sun.javafx.css.converters.BooleanConverter;
 import com.sun.javafx.scene.control.skin.ComboBoxBaseSkin;
 import com.sun.javafx.scene.control.skin.ComboBoxPopupControl;
@@ -202,6 +203,7 @@ public class JFXColorPickerSkin extends ComboBoxPopupControl<Color> {
             JFXNodeUtils.updateBackground(colorBox.getBackground(), colorBox, colorCircle.getFill());
             colorBox.getChildren().remove(colorCircle);
         });
+        JFXAnimationMetrics.track(animateColor, "JFXColorPickerSkin.animateColor", getSkinnable());
         animateColor.play();
         // update label color
         displayNode.setTextFill(circleColor.grayscale().getRed() < 0.5 ? Color.valueOf(
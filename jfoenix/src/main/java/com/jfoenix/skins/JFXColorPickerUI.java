@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.transitions.CachedTransition;
+import com.jfoenix.transitions.JFXAnimationPolicy;
 import javafx.animation.Animation.Status;
 import javafx.animation.*;
 import javafx.collections.FXCollections;
@@ -331,7 +332,7 @@ class JFXColorPickerUI extends Pane {
                 allowColorChange = true;
             }
         });
-        pTrans.play();
+        JFXAnimationPolicy.play(pTrans);
 
         refreshHSLCircle();
     }
@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.transitions.CachedTransition;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
@@ -184,6 +185,7 @@ class JFXCustomColorPicker extends Pane {
     }
 
     public void animate() {
+        JFXAnimationMetrics.track(showAnimation, "JFXCustomColorPicker.showAnimation", this);
         showAnimation.play();
     }
 
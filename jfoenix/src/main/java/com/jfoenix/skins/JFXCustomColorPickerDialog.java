@@ -22,6 +22,7 @@ package com.jfoenix.skins;
 import com.jfoenix.controls.*;
 import com.jfoenix.svg.SVGGlyph;
 import com.jfoenix.transitions.JFXFillTransition;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import javafx.animation.*;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
@@ -365,6 +366,7 @@ public class JFXCustomColorPickerDialog extends StackPane {
                 1,
                 Interpolator.EASE_BOTH)));
         timeline.setOnFinished((finish) -> curvedColorPicker.animate());
+        JFXAnimationMetrics.track(timeline, "JFXCustomColorPickerDialog.timeline", this);
         timeline.play();
     }
 
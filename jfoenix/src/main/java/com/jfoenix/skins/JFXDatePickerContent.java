@@ -43,6 +43,7 @@ import com.jfoenix.controls.JFXListCell;
 import com.jfoenix.controls.JFXListView;
 import com.jfoenix.svg.SVGGlyph;
 import com.jfoenix.transitions.CachedTransition;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 
 import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
@@ -161,6 +162,7 @@ public class JFXDatePickerContent extends VBox {
                                 yearsListView.scrollTo(this.getIndex() - 2 >= 0 ? this.getIndex() - 2 : this.getIndex());
                                 hideTransition.setOnFinished(null);
                             });
+                            JFXAnimationMetrics.track(hideTransition, "JFXDatePickerContent.hideTransition", this);
                             hideTransition.play();
                         }
                     });
@@ -465,6 +467,7 @@ public class JFXDatePickerContent extends VBox {
                 int yearIndex = Integer.parseInt(selectedYearLabel.getText()) - 1900 - 2;
                 yearsListView.scrollTo(yearIndex >= 0 ? yearIndex : yearIndex + 2);
                 hideTransition.stop();
+                JFXAnimationMetrics.track(showTransition, "JFXDatePickerContent.showTransition", this);
                 showTransition.play();
             }
         });
@@ -481,6 +484,7 @@ public class JFXDatePickerContent extends VBox {
         selectedDateContainer.setOnMouseClicked((click) -> {
             if (yearsListView.isVisible()) {
                 showTransition.stop();
+                JFXAnimationMetrics.track(hideTransition, "JFXDatePickerContent.hideTransition", this);
                 hideTransition.play();
             }
         });
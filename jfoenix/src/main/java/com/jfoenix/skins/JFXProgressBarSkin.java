@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.controls.JFXProgressBar;
 import com.jfoenix.utils.JFXNodeUtils;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import com.sun.javafx.scene.control.skin.ProgressIndicatorSkin;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -130,6 +131,7 @@ public class JFXProgressBarSkin extends ProgressIndicatorSkin {
         if (getSkinnable().isIndeterminate()) {
             createIndeterminateTimeline();
             if (getSkinnable().impl_isTreeVisible()) {
+                JFXAnimationMetrics.track(indeterminateTransition, "JFXProgressBarSkin.indeterminateTransition", getSkinnable());
                 indeterminateTransition.play();
             }
             // apply clip
@@ -159,6 +161,7 @@ public class JFXProgressBarSkin extends ProgressIndicatorSkin {
             if (pause) {
                 indeterminateTransition.pause();
             } else {
+                JFXAnimationMetrics.track(indeterminateTransition, "JFXProgressBarSkin.indeterminateTransition", getSkinnable());
                 indeterminateTransition.play();
             }
         }
@@ -91,10 +91,7 @@ public class JFXRadioButtonSkin extends RadioButtonSkin {
             }
 
             protected void initControlListeners() {
-                // if the control got resized the overlay rect must be rest
-                control.layoutBoundsProperty().addListener(observable -> resetRippler());
-                if(getChildren().contains(control))
-                    control.boundsInParentProperty().addListener(observable -> resetRippler());
+                // bounds listeners are added by the rippler once the ripple nodes are created
                 control.addEventHandler(MouseEvent.MOUSE_PRESSED,
                     (event) -> createRipple(event.getX() + padding, event.getY() + padding));
                 // create fade out transition for the ripple
@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.controls.JFXSlider;
 import com.jfoenix.controls.JFXSlider.IndicatorPosition;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import com.sun.javafx.scene.control.skin.SliderSkin;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -177,18 +178,22 @@ public class JFXSliderSkin extends SliderSkin {
         // animate value node
         track.addEventHandler(MouseEvent.MOUSE_PRESSED, (event) -> {
             timeline.setRate(1);
+            JFXAnimationMetrics.track(timeline, "JFXSliderSkin.timeline", getSkinnable());
             timeline.play();
         });
         track.addEventHandler(MouseEvent.MOUSE_RELEASED, (event) -> {
             timeline.setRate(-1);
+            JFXAnimationMetrics.track(timeline, "JFXSliderSkin.timeline", getSkinnable());
             timeline.play();
         });
         thumb.addEventHandler(MouseEvent.MOUSE_PRESSED, (event) -> {
             timeline.setRate(1);
+            JFXAnimationMetrics.track(timeline, "JFXSliderSkin.timeline", getSkinnable());
             timeline.play();
         });
         thumb.addEventHandler(MouseEvent.MOUSE_RELEASED, (event) -> {
             timeline.setRate(-1);
+            JFXAnimationMetrics.track(timeline, "JFXSliderSkin.timeline", getSkinnable());
             timeline.play();
         });
 
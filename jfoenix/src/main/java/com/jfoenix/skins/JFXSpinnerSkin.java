@@ -20,6 +20,7 @@
 package com.jfoenix.skins;
 
 import com.jfoenix.controls.JFXSpinner;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import com.sun.javafx.scene.control.behavior.BehaviorBase;
 import com.sun.javafx.scene.control.skin.BehaviorSkinBase;
 import javafx.animation.Interpolator;
@@ -120,6 +121,7 @@ public class JFXSpinnerSkin extends BehaviorSkinBase<JFXSpinner, BehaviorBase<JF
             if (timeline == null) {
                 createTransition();
                 if (getSkinnable().impl_isTreeVisible()) {
+                    JFXAnimationMetrics.track(timeline, "JFXSpinnerSkin.timeline", getSkinnable());
                     timeline.play();
                 }
             }
@@ -164,6 +166,7 @@ public class JFXSpinnerSkin extends BehaviorSkinBase<JFXSpinner, BehaviorBase<JF
             if (pause) {
                 timeline.pause();
             } else {
+                JFXAnimationMetrics.track(timeline, "JFXSpinnerSkin.timeline", getSkinnable());
                 timeline.play();
             }
         }
@@ -298,6 +301,7 @@ public class JFXSpinnerSkin extends BehaviorSkinBase<JFXSpinner, BehaviorBase<JF
             endingFrame);
         timeline.setCycleCount(Timeline.INDEFINITE);
         timeline.setDelay(Duration.ZERO);
+        JFXAnimationMetrics.track(timeline, "JFXSpinnerSkin.timeline", getSkinnable());
         timeline.playFromStart();
     }
 
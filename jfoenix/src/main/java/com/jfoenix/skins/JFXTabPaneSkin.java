@@ -27,6 +27,8 @@ import com.jfoenix.controls.JFXTabPane;
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.svg.SVGGlyph;
 import com.jfoenix.transitions.CachedTransition;
+import com.jfoenix.transitions.JFXAnimationPolicy;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import com.sun.javafx.scene.control.MultiplePropertyChangeListenerHandler;
 import com.sun.javafx.scene.control.behavior.TabPaneBehavior;
 import com.sun.javafx.scene.control.skin.BehaviorSkinBase;
@@ -377,7 +379,8 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
                         diffTabsIndices = 0;
                     }
                     // animate upon tab selection only otherwise just translate the selected tab
-                    if (isSelectingTab && !((JFXTabPane) getSkinnable()).isDisableAnimation()) {
+                    if (isSelectingTab && !((JFXTabPane) getSkinnable()).isDisableAnimation()
+                        && JFXAnimationPolicy.isAnimationAllowed()) {
                         new CachedTransition(tabsContainer,
                             new Timeline(new KeyFrame(Duration.millis(1000),
                                 new KeyValue(tabsContainer.translateXProperty(),
@@ -701,6 +704,7 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
                     selectedTabLine.setTranslateX(selectedTabLine.getTranslateX() - newWidth);
                 }
             });
+            JFXAnimationMetrics.track(timeline, "JFXTabPaneSkin.timeline", getSkinnable());
             timeline.play();
         }
 
@@ -1202,6 +1206,7 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
                     .getWidth();
                 arrowAnimation = new Timeline(new KeyFrame(Duration.seconds(1),
                     new KeyValue(offsetProperty, offset, Interpolator.LINEAR)));
+                JFXAnimationMetrics.track(arrowAnimation, "JFXTabPaneSkin.arrowAnimation", getSkinnable());
                 arrowAnimation.play();
             });
             container.setOnMouseReleased(release -> arrowAnimation.stop());
@@ -23,6 +23,7 @@ import com.jfoenix.concurrency.JFXUtilities;
 import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.controls.base.IFXValidatableControl;
 import com.jfoenix.validation.base.ValidatorBase;
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import javafx.animation.*;
 import javafx.beans.value.ObservableValue;
 import javafx.geometry.Insets;
@@ -114,6 +115,7 @@ public class ValidationPane<T extends Region & IFXValidatableControl & IFXStatic
                             parallelTransition.play();
                         }
                     });
+                    JFXAnimationMetrics.track(errorHideTransition, "ValidationPane.errorHideTransition", this);
                     errorHideTransition.play();
                 } else {
                     errorHideTransition.setOnFinished(null);
@@ -131,6 +133,7 @@ public class ValidationPane<T extends Region & IFXValidatableControl & IFXStatic
                         errorClipScale.setY(0);
                     }
                     // animate opacity only
+                    JFXAnimationMetrics.track(errorHideTransition, "ValidationPane.errorHideTransition", this);
                     errorHideTransition.play();
                 }
             } else {
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.Interpolator;
+
+/**
+ * interpolator that samples the curve of another interpolator into a fixed size
+ * table once, and evaluates it using linear lookup. it's used to avoid solving
+ * expensive curves (e.g. {@link Interpolator#SPLINE(double, double, double, double)})
+ * on each frame for each animated value.
+ * <p>
+ * the baked curve matches the source curve at the sample points, including both ends.
+ * discontinuous interpolators (e.g. {@link Interpolator#DISCRETE} or step interpolators)
+ * can't be approximated linearly, so they are never baked.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class BakedInterpolator extends Interpolator {
+
+    public static final int DEFAULT_SAMPLES = 256;
+
+    /**
+     * number of bisections used to check whether a jump between two samples is a discontinuity
+     */
+    private static final int BISECTIONS = 24;
+
+    private final float[] table;
+    private final int segments;
+
+    private BakedInterpolator(float[] table) {
+        this.table = table;
+        this.segments = table.length - 1;
+    }
+
+    /**
+     * bake the interpolator using {@link #DEFAULT_SAMPLES} samples
+     */
+    public static Interpolator bake(Interpolator source) {
+        return bake(source, DEFAULT_SAMPLES);
+    }
+
+    /**
+     * @param source  interpolator to be sampled
+     * @param samples number of samples (segments) of the curve
+     * @return the baked interpolator, the source itself if it's already baked or discontinuous
+     */
+    public static Interpolator bake(Interpolator source, int samples) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("samples must be positive");
+        }
+        if (source instanceof BakedInterpolator || source == Interpolator.DISCRETE) {
+            return source;
+        }
+        final float[] table = new float[samples + 1];
+        for (int i = 0; i <= samples; i++) {
+            table[i] = (float) sample(source, (double) i / samples);
+        }
+        for (int i = 0; i < samples; i++) {
+            if (isDiscontinuous(source, (double) i / samples, (double) (i + 1) / samples)) {
+                return source;
+            }
+        }
+        return new BakedInterpolator(table);
+    }
+
+    private static double sample(Interpolator source, double fraction) {
+        // interpolating 0 -> 1 gives the source curve value at the fraction
+        return source.interpolate(0.0, 1.0, fraction);
+    }
+
+    /**
+     * a continuous curve jump shrinks when the interval is bisected, while a step
+     * keeps the same jump no matter how small the interval gets
+     */
+    private static boolean isDiscontinuous(Interpolator source, double from, double to) {
+        double start = sample(source, from);
+        double end = sample(source, to);
+        final double jump = Math.abs(end - start);
+        if (jump < 0.01) {
+            return false;
+        }
+        for (int i = 0; i < BISECTIONS; i++) {
+            final double middle = (from + to) / 2;
+            final double value = sample(source, middle);
+            if (Math.abs(value - start) > Math.abs(end - value)) {
+                to = middle;
+                end = value;
+            } else {
+                from = middle;
+                start = value;
+            }
+        }
+        return Math.abs(end - start) > jump / 2;
+    }
+
+    @Override
+    protected double curve(double t) {
+        if (t <= 0) {
+            return table[0];
+        }
+        if (t >= 1) {
+            return table[segments];
+        }
+        final double position = t * segments;
+        final int index = (int) position;
+        final double fraction = position - index;
+        final float start = table[index];
+        return start + (table[index + 1] - start) * fraction;
+    }
+
+    @Override
+    public String toString() {
+        return "BakedInterpolator [samples=" + segments + "]";
+    }
+}
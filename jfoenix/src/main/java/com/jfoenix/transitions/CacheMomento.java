@@ -23,26 +23,116 @@ import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.layout.Region;
 
-import java.util.HashMap;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.WeakHashMap;
 
+/**
+ * caches a node while it's being animated and restores its original cache state afterwards.
+ * <p>
+ * cache states are reference counted per node: the node is cached using {@link CacheHint#SPEED}
+ * when the first momento caches it and its original state is restored once the last momento
+ * restores it. nodes and momentos are weakly referenced, so nodes are not leaked and momentos
+ * that are abandoned without being restored (e.g. animations dropped mid-flight) are released
+ * by the next {@link #cache()} / {@link #restore()} call after they are garbage collected.
+ * <p>
+ * NOTE: momentos must only be used from the FX thread
+ */
 public class CacheMomento {
-    private static HashMap<Node, CacheMomento> history = new HashMap<>();
+    private static final WeakHashMap<Node, NodeCacheState> history = new WeakHashMap<>();
+    /**
+     * holders of garbage collected momentos that were never restored
+     */
+    private static final ReferenceQueue<CacheMomento> abandoned = new ReferenceQueue<>();
 
-    private boolean cache;
-    private boolean cacheShape;
-    private boolean snapToPixel;
-    private CacheHint cacheHint = CacheHint.DEFAULT;
-    private Node node;
+    private final Node node;
+    /**
+     * the reference holding the node cache, null if the node isn't cached by this momento
+     */
+    private Holder holder;
 
     public CacheMomento(Node node) {
         this.node = node;
     }
 
+    public Node getNode() {
+        return node;
+    }
+
     /**
-     * this method will cache the node only if it wasn't cached before
+     * cache the node, the original cache state is only saved if the node isn't already cached
+     * by another momento. calling this method multiple times has no effect until the node is restored
      */
     public void cache() {
-        if (!history.containsKey(node)) {
+        releaseAbandoned();
+        if (holder != null) {
+            return;
+        }
+        NodeCacheState state = history.get(node);
+        if (state == null) {
+            state = new NodeCacheState(node);
+            history.put(node, state);
+        }
+        holder = new Holder(this, state);
+        state.holders.add(holder);
+    }
+
+    /**
+     * release the node cache, its original state is restored if no other momento is caching it
+     */
+    public void restore() {
+        releaseAbandoned();
+        if (holder == null) {
+            return;
+        }
+        final Holder holder = this.holder;
+        this.holder = null;
+        // released explicitly, must not be enqueued as abandoned
+        holder.clear();
+        holder.release();
+    }
+
+    private static void releaseAbandoned() {
+        Reference<? extends CacheMomento> reference;
+        while ((reference = abandoned.poll()) != null) {
+            ((Holder) reference).release();
+        }
+    }
+
+    private static final class Holder extends WeakReference<CacheMomento> {
+        private final NodeCacheState state;
+
+        private Holder(CacheMomento momento, NodeCacheState state) {
+            super(momento, abandoned);
+            this.state = state;
+        }
+
+        private void release() {
+            if (state.holders.remove(this) && state.holders.isEmpty()) {
+                final Node node = state.node.get();
+                if (node != null) {
+                    if (history.get(node) == state) {
+                        history.remove(node);
+                    }
+                    state.restore(node);
+                }
+            }
+        }
+    }
+
+    private static final class NodeCacheState {
+        private final Set<Holder> holders = new HashSet<>();
+        private final WeakReference<Node> node;
+        private final boolean cache;
+        private final CacheHint cacheHint;
+        private boolean cacheShape;
+        private boolean snapToPixel;
+
+        private NodeCacheState(Node node) {
+            this.node = new WeakReference<>(node);
             this.cache = node.isCache();
             this.cacheHint = node.getCacheHint();
             node.setCache(true);
@@ -53,24 +143,15 @@ public class CacheMomento {
                 ((Region) node).setCacheShape(true);
                 ((Region) node).setSnapToPixel(true);
             }
-            history.put(node, this);
-        } else {
-            CacheMomento cached = new CacheMomento(node);
-            this.cache = cached.cache;
-            this.cacheHint = cached.cacheHint;
-            this.cacheShape = cached.cacheShape;
-            this.snapToPixel = cached.snapToPixel;
         }
 
-    }
-
-    public void restore() {
-        node.setCache(cache);
-        node.setCacheHint(cacheHint);
-        if (node instanceof Region) {
-            ((Region) node).setCacheShape(cacheShape);
-            ((Region) node).setSnapToPixel(snapToPixel);
+        private void restore(Node node) {
+            node.setCache(cache);
+            node.setCacheHint(cacheHint);
+            if (node instanceof Region) {
+                ((Region) node).setCacheShape(cacheShape);
+                ((Region) node).setSnapToPixel(snapToPixel);
+            }
         }
-        history.remove(node);
     }
 }
@@ -19,15 +19,34 @@
 
 package com.jfoenix.transitions;
 
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.animation.Transition;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.WritableDoubleValue;
+import javafx.beans.value.WritableFloatValue;
+import javafx.beans.value.WritableIntegerValue;
+import javafx.beans.value.WritableLongValue;
+import javafx.beans.value.WritableValue;
 import javafx.scene.Node;
-import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * applies animation on a cached node to improve the performance
+ * <p>
+ * the key frames of the timeline are compiled into flat arrays of
+ * (target, start, end, interpolator) segments that are evaluated directly
+ * on each frame, the timeline itself is never played
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -39,16 +58,62 @@ public class CachedTransition extends Transition {
     private CacheMomento[] momentos = new CacheMomento[0];
     private CacheMomento nodeCacheMomento;
 
+    /**
+     * compiled key frames, each target owns the segments
+     * [targetOffsets[i], targetOffsets[i + 1]) sorted by time
+     */
+    private WritableValue[] targets;
+    private int[] targetOffsets;
+    private double[] segmentStartTimes;
+    private double[] segmentEndTimes;
+    private Object[] segmentStartValues;
+    private Object[] segmentEndValues;
+    private Interpolator[] segmentInterpolators;
+
+    /**
+     * animation policy state, whether the transition is counted as running
+     * and the rate magnitude before it was scaled (0 if not scaled)
+     */
+    private boolean policyRunning = false;
+    private double policyRate = 0;
+
+    private final InvalidationListener keyFramesListener = observable -> targets = null;
+    private final WeakInvalidationListener weakKeyFramesListener = new WeakInvalidationListener(keyFramesListener);
+
     public CachedTransition(final Node node, final Timeline timeline) {
         this.node = node;
         nodeCacheMomento = new CacheMomento(node);
+        this.timeline.addListener((o, oldVal, newVal) -> {
+            if (oldVal != null) {
+                oldVal.getKeyFrames().removeListener(weakKeyFramesListener);
+            }
+            if (newVal != null) {
+                newVal.getKeyFrames().addListener(weakKeyFramesListener);
+            }
+            targets = null;
+        });
         this.timeline.set(timeline);
         statusProperty().addListener(observable -> {
             switch (getStatus()) {
                 case RUNNING:
+                    if (!policyRunning) {
+                        policyRunning = true;
+                        JFXAnimationPolicy.animationStarted();
+                    }
+                    JFXAnimationMetrics.animationStarted(this, getClass().getName(), node);
                     starting();
                     break;
                 default:
+                    if (policyRunning) {
+                        policyRunning = false;
+                        JFXAnimationPolicy.animationStopped();
+                    }
+                    if (getStatus() == Status.STOPPED && policyRate != 0) {
+                        // restore the original rate, keeping its current direction
+                        setRate(Math.signum(getRate()) * policyRate);
+                        policyRate = 0;
+                    }
+                    JFXAnimationMetrics.animationStopped(this);
                     stopping();
                     break;
             }
@@ -56,20 +121,29 @@ public class CachedTransition extends Transition {
     }
 
     public CachedTransition(final Node node, final Timeline timeline, CacheMomento... cacheMomentos) {
-        this.node = node;
-        nodeCacheMomento = new CacheMomento(node);
-        this.timeline.set(timeline);
+        this(node, timeline);
         this.momentos = cacheMomentos;
-        statusProperty().addListener(observable -> {
-            switch (getStatus()) {
-                case RUNNING:
-                    starting();
-                    break;
-                default:
-                    stopping();
-                    break;
+    }
+
+    /**
+     * plays the transition according to {@link JFXAnimationPolicy}, the transition
+     * is shortened by scaling its rate until it stops or skipped to its end
+     */
+    @Override
+    public void play() {
+        JFXAnimationPolicy.Mode mode = JFXAnimationPolicy.Mode.FULL;
+        if (getStatus() != Status.RUNNING) {
+            mode = JFXAnimationPolicy.getMode();
+            final double scale = JFXAnimationPolicy.getReducedDurationScale();
+            if (mode == JFXAnimationPolicy.Mode.REDUCED && policyRate == 0 && scale > 0 && getRate() != 0) {
+                policyRate = Math.abs(getRate());
+                setRate(getRate() / scale);
             }
-        });
+        }
+        super.play();
+        if (mode == JFXAnimationPolicy.Mode.NONE) {
+            JFXAnimationPolicy.skipToEnd(this);
+        }
     }
 
     /**
@@ -101,7 +175,106 @@ public class CachedTransition extends Transition {
      */
     @Override
     protected void interpolate(double d) {
-        timeline.get().playFrom(Duration.seconds(d));
-        timeline.get().stop();
+        final long sampleTime = JFXAnimationMetrics.startSample();
+        if (targets == null) {
+            compile();
+        }
+        // the timeline is sampled at d seconds
+        for (int i = 0; i < targets.length; i++) {
+            final int last = targetOffsets[i + 1] - 1;
+            int segment = targetOffsets[i];
+            while (segment < last && segmentEndTimes[segment] < d) {
+                segment++;
+            }
+            final double startTime = segmentStartTimes[segment];
+            final double endTime = segmentEndTimes[segment];
+            double fraction = endTime <= startTime ? 1 : (d - startTime) / (endTime - startTime);
+            fraction = fraction < 0 ? 0 : fraction > 1 ? 1 : fraction;
+            interpolate(targets[i], segment, fraction);
+        }
+        JFXAnimationMetrics.endSample(getClass().getName(), sampleTime);
+    }
+
+    private void interpolate(WritableValue target, int segment, double fraction) {
+        // the first segment of a target without a key frame at time 0 starts
+        // from its current value, same as restarting the timeline on each frame
+        final Object start = segmentStartValues[segment] == null ? target.getValue() : segmentStartValues[segment];
+        final Object end = segmentEndValues[segment];
+        final Interpolator interpolator = segmentInterpolators[segment];
+        if (start instanceof Number && end instanceof Number) {
+            final Number startNumber = (Number) start;
+            final Number endNumber = (Number) end;
+            if (target instanceof WritableDoubleValue) {
+                ((WritableDoubleValue) target).set(interpolator.interpolate(startNumber.doubleValue(),
+                    endNumber.doubleValue(), fraction));
+                return;
+            } else if (target instanceof WritableIntegerValue) {
+                ((WritableIntegerValue) target).set(interpolator.interpolate(startNumber.intValue(),
+                    endNumber.intValue(), fraction));
+                return;
+            } else if (target instanceof WritableFloatValue) {
+                ((WritableFloatValue) target).set((float) interpolator.interpolate(startNumber.floatValue(),
+                    endNumber.floatValue(), fraction));
+                return;
+            } else if (target instanceof WritableLongValue) {
+                ((WritableLongValue) target).set(interpolator.interpolate(startNumber.longValue(),
+                    endNumber.longValue(), fraction));
+                return;
+            }
+        }
+        target.setValue(interpolator.interpolate(start, end, fraction));
+    }
+
+    /**
+     * flatten the key frames of the timeline into interpolation segments per target
+     */
+    private void compile() {
+        final Map<WritableValue, List<Object[]>> frames = new LinkedHashMap<>();
+        final Timeline timeline = this.timeline.get();
+        if (timeline != null) {
+            for (KeyFrame keyFrame : timeline.getKeyFrames()) {
+                final double time = keyFrame.getTime().toSeconds();
+                for (KeyValue keyValue : keyFrame.getValues()) {
+                    frames.computeIfAbsent(keyValue.getTarget(), target -> new ArrayList<>())
+                        .add(new Object[] {time, keyValue});
+                }
+            }
+        }
+
+        int segmentsCount = 0;
+        for (List<Object[]> targetFrames : frames.values()) {
+            targetFrames.sort((a, b) -> Double.compare((double) a[0], (double) b[0]));
+            segmentsCount += targetFrames.size();
+        }
+
+        final WritableValue[] targets = new WritableValue[frames.size()];
+        targetOffsets = new int[targets.length + 1];
+        segmentStartTimes = new double[segmentsCount];
+        segmentEndTimes = new double[segmentsCount];
+        segmentStartValues = new Object[segmentsCount];
+        segmentEndValues = new Object[segmentsCount];
+        segmentInterpolators = new Interpolator[segmentsCount];
+
+        int targetIndex = 0;
+        int segment = 0;
+        for (Map.Entry<WritableValue, List<Object[]>> entry : frames.entrySet()) {
+            targets[targetIndex] = entry.getKey();
+            targetOffsets[targetIndex++] = segment;
+            double startTime = 0;
+            Object startValue = null;
+            for (Object[] frame : entry.getValue()) {
+                final KeyValue keyValue = (KeyValue) frame[1];
+                segmentStartTimes[segment] = startTime;
+                segmentEndTimes[segment] = (double) frame[0];
+                segmentStartValues[segment] = startValue;
+                segmentEndValues[segment] = keyValue.getEndValue();
+                segmentInterpolators[segment] = keyValue.getInterpolator();
+                startTime = (double) frame[0];
+                startValue = keyValue.getEndValue();
+                segment++;
+            }
+        }
+        targetOffsets[targetIndex] = segment;
+        this.targets = targets;
     }
 }
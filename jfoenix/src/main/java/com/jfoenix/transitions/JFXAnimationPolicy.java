@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.util.Duration;
+
+/**
+ * global animation policy consulted by JFoenix controls before animating.
+ * <p>
+ * animations are either played normally ({@link Mode#FULL}), shortened ({@link Mode#REDUCED})
+ * or skipped ({@link Mode#NONE}) depending on:
+ * <ul>
+ * <li>low power mode: all animations are skipped</li>
+ * <li>max concurrent animations: new animations are skipped while the limit is reached</li>
+ * <li>reduced motion: all animations are shortened</li>
+ * <li>frame budget: animations are shortened while the average frame time exceeds the budget</li>
+ * </ul>
+ * {@link CachedTransition} and {@link JFXAnimationTimer} apply the policy automatically when
+ * played directly, other animations (including parallel / sequential transitions that contain
+ * cached transitions) can use {@link #play(Animation)} / {@link #scale(Duration)}.
+ * <p>
+ * NOTE: the policy must only be accessed from the FX thread
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class JFXAnimationPolicy {
+
+    public enum Mode {FULL, REDUCED, NONE}
+
+    private static int runningAnimations = 0;
+    /**
+     * exponential moving average of the frame time in nanoseconds, measured while
+     * animations are running and a frame budget is set
+     */
+    private static double averageFrameTime = 0;
+
+    /**
+     * measures the FX thread work of each pulse: from the pulse start (the timer timestamp) until
+     * a runnable posted during the pulse is run, i.e. once the animations, CSS and layout of the pulse
+     * are processed. the idle time between pulses (e.g. waiting for vsync) isn't measured
+     */
+    private static final AnimationTimer frameMonitor = new AnimationTimer() {
+        private boolean measuring = false;
+
+        @Override
+        public void handle(long now) {
+            if (measuring) {
+                return;
+            }
+            measuring = true;
+            Platform.runLater(() -> {
+                measuring = false;
+                final long frameTime = System.nanoTime() - now;
+                averageFrameTime = averageFrameTime == 0 ? frameTime : averageFrameTime * 0.9 + frameTime * 0.1;
+            });
+        }
+    };
+
+    private JFXAnimationPolicy() {
+    }
+
+    /**
+     * @return the animation mode of animations starting now
+     */
+    public static Mode getMode() {
+        if (isLowPowerMode()) {
+            return Mode.NONE;
+        }
+        if (getMaxConcurrentAnimations() > 0 && runningAnimations >= getMaxConcurrentAnimations()) {
+            return Mode.NONE;
+        }
+        if (isReducedMotion()) {
+            return Mode.REDUCED;
+        }
+        final Duration frameBudget = getFrameBudget();
+        if (frameBudget != null && averageFrameTime > frameBudget.toMillis() * 1_000_000) {
+            return Mode.REDUCED;
+        }
+        return Mode.FULL;
+    }
+
+    public static boolean isAnimationAllowed() {
+        return getMode() != Mode.NONE;
+    }
+
+    /**
+     * @return scale to be applied to the animations durations, 0 if animations are skipped
+     */
+    public static double getDurationScale() {
+        switch (getMode()) {
+            case NONE:
+                return 0;
+            case REDUCED:
+                return getReducedDurationScale();
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * @param duration animation duration
+     * @return the duration scaled according to the current mode
+     */
+    public static Duration scale(Duration duration) {
+        final double scale = getDurationScale();
+        return scale == 1 ? duration : duration.multiply(scale);
+    }
+
+    /**
+     * play the animation according to the current mode, if animations are not allowed
+     * the animation jumps directly to its end (only if it has a finite cycle count),
+     * if animations are reduced the animation rate is scaled until it stops.
+     * the policy is only applied when starting a stopped animation, resuming
+     * a paused or running animation keeps its current rate
+     *
+     * @param animation to be played
+     */
+    public static void play(Animation animation) {
+        final Mode mode = animation.getStatus() == Animation.Status.STOPPED ? getMode() : Mode.FULL;
+        if (mode == Mode.REDUCED) {
+            reduce(animation);
+        }
+        animation.play();
+        if (mode == Mode.NONE) {
+            skipToEnd(animation);
+        }
+    }
+
+    private static void reduce(Animation animation) {
+        final double scale = getReducedDurationScale();
+        final double rate = Math.abs(animation.getRate());
+        if (scale <= 0 || rate == 0) {
+            return;
+        }
+        animation.setRate(animation.getRate() / scale);
+        animation.statusProperty().addListener(new InvalidationListener() {
+            @Override
+            public void invalidated(Observable observable) {
+                if (animation.getStatus() == Animation.Status.STOPPED) {
+                    animation.statusProperty().removeListener(this);
+                    // restore the original rate, keeping its current direction
+                    animation.setRate(Math.signum(animation.getRate()) * rate);
+                }
+            }
+        });
+    }
+
+    static void skipToEnd(Animation animation) {
+        if (animation.getStatus() == Animation.Status.RUNNING && animation.getCycleCount() != Animation.INDEFINITE) {
+            animation.jumpTo(animation.getRate() < 0 ? Duration.ZERO : animation.getTotalDuration());
+        }
+    }
+
+    /**
+     * notify the policy that a JFoenix animation started running
+     */
+    public static void animationStarted() {
+        if (runningAnimations++ == 0) {
+            updateFrameMonitor();
+        }
+    }
+
+    /**
+     * notify the policy that a JFoenix animation stopped running
+     */
+    public static void animationStopped() {
+        if (runningAnimations > 0 && --runningAnimations == 0) {
+            updateFrameMonitor();
+        }
+    }
+
+    /**
+     * the frame time is only measured while there is a budget to compare it to
+     */
+    private static void updateFrameMonitor() {
+        if (runningAnimations > 0 && getFrameBudget() != null) {
+            frameMonitor.start();
+        } else {
+            frameMonitor.stop();
+            if (getFrameBudget() == null) {
+                averageFrameTime = 0;
+            }
+        }
+    }
+
+    public static int getRunningAnimations() {
+        return runningAnimations;
+    }
+
+    /**
+     * skip all animations
+     */
+    private static BooleanProperty lowPowerMode = new SimpleBooleanProperty(false);
+
+    public static BooleanProperty lowPowerModeProperty() {
+        return lowPowerMode;
+    }
+
+    public static boolean isLowPowerMode() {
+        return lowPowerMode.get();
+    }
+
+    public static void setLowPowerMode(boolean lowPowerMode) {
+        JFXAnimationPolicy.lowPowerMode.set(lowPowerMode);
+    }
+
+    /**
+     * shorten all animations
+     */
+    private static BooleanProperty reducedMotion = new SimpleBooleanProperty(false);
+
+    public static BooleanProperty reducedMotionProperty() {
+        return reducedMotion;
+    }
+
+    public static boolean isReducedMotion() {
+        return reducedMotion.get();
+    }
+
+    public static void setReducedMotion(boolean reducedMotion) {
+        JFXAnimationPolicy.reducedMotion.set(reducedMotion);
+    }
+
+    /**
+     * max number of concurrent animations, new animations are skipped once it's reached.
+     * 0 or less means no limit
+     */
+    private static IntegerProperty maxConcurrentAnimations = new SimpleIntegerProperty(0);
+
+    public static IntegerProperty maxConcurrentAnimationsProperty() {
+        return maxConcurrentAnimations;
+    }
+
+    public static int getMaxConcurrentAnimations() {
+        return maxConcurrentAnimations.get();
+    }
+
+    public static void setMaxConcurrentAnimations(int maxConcurrentAnimations) {
+        JFXAnimationPolicy.maxConcurrentAnimations.set(maxConcurrentAnimations);
+    }
+
+    /**
+     * frame time budget, animations are shortened while the average frame time exceeds it.
+     * the frame time is the time spent by the FX thread processing a pulse, not the interval
+     * between pulses, so budgets below the refresh interval (e.g. 8ms at 60Hz) are valid.
+     * null (default) disables frame time monitoring
+     */
+    private static ObjectProperty<Duration> frameBudget = new SimpleObjectProperty<>();
+
+    public static ObjectProperty<Duration> frameBudgetProperty() {
+        return frameBudget;
+    }
+
+    public static Duration getFrameBudget() {
+        return frameBudget.get();
+    }
+
+    public static void setFrameBudget(Duration frameBudget) {
+        JFXAnimationPolicy.frameBudget.set(frameBudget);
+    }
+
+    static {
+        frameBudget.addListener(observable -> updateFrameMonitor());
+    }
+
+    /**
+     * scale applied to the durations of animations in {@link Mode#REDUCED} mode
+     */
+    private static DoubleProperty reducedDurationScale = new SimpleDoubleProperty(0.5);
+
+    public static DoubleProperty reducedDurationScaleProperty() {
+        return reducedDurationScale;
+    }
+
+    public static double getReducedDurationScale() {
+        return reducedDurationScale.get();
+    }
+
+    public static void setReducedDurationScale(double reducedDurationScale) {
+        JFXAnimationPolicy.reducedDurationScale.set(reducedDurationScale);
+    }
+}
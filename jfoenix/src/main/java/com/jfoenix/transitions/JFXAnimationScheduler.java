@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+
+/**
+ * multiplexes all running {@link JFXAnimationTimer}s on a single pulse callback,
+ * timers are only kept in the active set while they are running so the cost of
+ * each frame depends on the number of running animations only.
+ * <p>
+ * NOTE: the scheduler must only be accessed from the FX thread
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class JFXAnimationScheduler {
+
+    private static final JFXAnimationScheduler INSTANCE = new JFXAnimationScheduler();
+
+    private JFXAnimationTimer[] timers = new JFXAnimationTimer[16];
+    private int size = 0;
+    private int removed = 0;
+    private boolean dispatching = false;
+    private boolean pulsing = false;
+
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            dispatch(now);
+        }
+    };
+
+    private JFXAnimationScheduler() {
+    }
+
+    static JFXAnimationScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * add the timer to the active set, the timer will receive pulses starting from the next frame
+     */
+    void schedule(JFXAnimationTimer timer) {
+        if (timer.schedulerIndex != -1) {
+            return;
+        }
+        if (size == timers.length) {
+            timers = Arrays.copyOf(timers, size * 2);
+        }
+        timer.schedulerIndex = size;
+        timers[size++] = timer;
+        if (!pulsing) {
+            pulsing = true;
+            pulse.start();
+        }
+    }
+
+    /**
+     * remove the timer from the active set
+     */
+    void cancel(JFXAnimationTimer timer) {
+        final int index = timer.schedulerIndex;
+        if (index == -1) {
+            return;
+        }
+        timer.schedulerIndex = -1;
+        timers[index] = null;
+        removed++;
+        if (!dispatching) {
+            compact();
+        }
+    }
+
+    private void dispatch(long now) {
+        dispatching = true;
+        try {
+            // timers scheduled while dispatching are pulsed on the next frame
+            final int count = size;
+            for (int i = 0; i < count; i++) {
+                final JFXAnimationTimer timer = timers[i];
+                if (timer != null) {
+                    final long sampleTime = JFXAnimationMetrics.startSample();
+                    timer.handle(now);
+                    JFXAnimationMetrics.endSample(timer.getClass().getName(), sampleTime);
+                }
+            }
+        } finally {
+            dispatching = false;
+            compact();
+        }
+    }
+
+    private void compact() {
+        if (removed > 0) {
+            int index = 0;
+            for (int i = 0; i < size; i++) {
+                final JFXAnimationTimer timer = timers[i];
+                if (timer != null) {
+                    timer.schedulerIndex = index;
+                    timers[index++] = timer;
+                }
+            }
+            Arrays.fill(timers, index, size, null);
+            size = index;
+            removed = 0;
+        }
+        if (size == 0 && pulsing) {
+            pulsing = false;
+            pulse.stop();
+        }
+    }
+}
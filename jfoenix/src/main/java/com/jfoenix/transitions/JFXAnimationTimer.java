@@ -19,12 +19,18 @@
 
 package com.jfoenix.transitions;
 
+import com.jfoenix.transitions.metrics.JFXAnimationMetrics;
 import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.beans.value.WritableDoubleValue;
+import javafx.beans.value.WritableIntegerValue;
 import javafx.beans.value.WritableValue;
 import javafx.scene.Node;
+import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +40,9 @@ import java.util.Set;
  * Custom AnimationTimer that can be created the same way as a timeline,
  * however it doesn't behave the same yet. it only animates in one direction,
  * it doesn't support animation 0 -> 1 -> 0.5
+ * <p>
+ * running timers are multiplexed on a single shared pulse callback,
+ * idle timers don't cost anything per frame.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -43,10 +52,22 @@ import java.util.Set;
 public class JFXAnimationTimer extends AnimationTimer {
 
     private Set<AnimationHandler> animationHandlers = new HashSet<>();
+    /**
+     * animation handlers used per frame, rebuilt when handlers are added / removed
+     */
+    private AnimationHandler[] handlers = new AnimationHandler[0];
+    /**
+     * index of the timer in the shared scheduler active set, -1 if not scheduled
+     */
+    int schedulerIndex = -1;
     private long startTime = -1;
     private boolean running = false;
     private List<CacheMomento> caches = new ArrayList<>();
     private double totalElapsedMilliseconds;
+    /**
+     * duration scale of the current run, resolved from {@link JFXAnimationPolicy} on start
+     */
+    private double durationScale = 1;
 
 
     public JFXAnimationTimer(JFXKeyFrame... keyFrames) {
@@ -57,6 +78,11 @@ public class JFXAnimationTimer extends AnimationTimer {
                 animationHandlers.add(new AnimationHandler(duration, keyFrame.getValues()));
             }
         }
+        updateHandlers();
+    }
+
+    private void updateHandlers() {
+        handlers = animationHandlers.toArray(new AnimationHandler[animationHandlers.size()]);
     }
 
     private HashMap<JFXKeyFrame, AnimationHandler> mutableFrames = new HashMap<>();
@@ -71,6 +97,7 @@ public class JFXAnimationTimer extends AnimationTimer {
             final AnimationHandler handler = new AnimationHandler(duration, keyFrame.getValues());
             animationHandlers.add(handler);
             mutableFrames.put(keyFrame, handler);
+            updateHandlers();
         }
     }
 
@@ -80,11 +107,17 @@ public class JFXAnimationTimer extends AnimationTimer {
         }
         AnimationHandler handler = mutableFrames.get(keyFrame);
         animationHandlers.remove(handler);
+        updateHandlers();
     }
 
     @Override
     public void start() {
-        super.start();
+        if (!running) {
+            durationScale = JFXAnimationPolicy.getDurationScale();
+            JFXAnimationPolicy.animationStarted();
+        }
+        JFXAnimationScheduler.getInstance().schedule(this);
+        JFXAnimationMetrics.animationStarted(this, getClass().getName(), caches.isEmpty() ? null : caches.get(0).getNode());
         running = true;
         startTime = -1;
         for (AnimationHandler animationHandler : animationHandlers) {
@@ -98,9 +131,10 @@ public class JFXAnimationTimer extends AnimationTimer {
     @Override
     public void handle(long now) {
         startTime = startTime == -1 ? now : startTime;
-        totalElapsedMilliseconds = (now - startTime) / 1000000.0;
+        // skipped animations (scale 0) finish on the first frame
+        totalElapsedMilliseconds = durationScale <= 0 ? Double.MAX_VALUE : (now - startTime) / 1000000.0 / durationScale;
         boolean stop = true;
-        for (AnimationHandler handler : animationHandlers) {
+        for (AnimationHandler handler : handlers) {
             handler.animate(totalElapsedMilliseconds);
             if (!handler.finished) {
                 stop = false;
@@ -117,12 +151,12 @@ public class JFXAnimationTimer extends AnimationTimer {
      */
     public void reverseAndContinue() {
         if (isRunning()) {
-            super.stop();
-            for (AnimationHandler handler : animationHandlers) {
+            JFXAnimationScheduler.getInstance().cancel(this);
+            for (AnimationHandler handler : handlers) {
                 handler.reverse(totalElapsedMilliseconds);
             }
             startTime = -1;
-            super.start();
+            JFXAnimationScheduler.getInstance().schedule(this);
         } else {
             start();
         }
@@ -130,29 +164,42 @@ public class JFXAnimationTimer extends AnimationTimer {
 
     @Override
     public void stop() {
-        super.stop();
-        running = false;
+        finish();
         for (AnimationHandler handler : animationHandlers) {
             handler.clear();
         }
-        for (CacheMomento cache : caches) {
-            cache.restore();
-        }
         if (onFinished != null) {
             onFinished.run();
         }
     }
 
+    /**
+     * jumps to the end values, if the timer is running it's stopped without calling its on finished handler
+     */
     public void applyEndValues() {
-        if (isRunning()) {
-            super.stop();
-        }
+        finish();
         for (AnimationHandler handler : animationHandlers) {
             handler.applyEndValues();
         }
         startTime = -1;
     }
 
+    /**
+     * removes the timer from the scheduler and releases the policy / metrics / caches
+     * accounted for its run
+     */
+    private void finish() {
+        JFXAnimationScheduler.getInstance().cancel(this);
+        if (running) {
+            JFXAnimationPolicy.animationStopped();
+        }
+        JFXAnimationMetrics.animationStopped(this);
+        running = false;
+        for (CacheMomento cache : caches) {
+            cache.restore();
+        }
+    }
+
     public boolean isRunning() {
         return running;
     }
@@ -178,16 +225,34 @@ public class JFXAnimationTimer extends AnimationTimer {
             handler.dispose();
         }
         animationHandlers.clear();
+        updateHandlers();
     }
 
     static class AnimationHandler {
+        private static final int SKIP = -1;
+        private static final int GENERIC = 0;
+        private static final int DOUBLE = 1;
+        private static final int INTEGER = 2;
+        private static final int COLOR = 3;
+
         private double duration;
         private double currentDuration;
         private Set<JFXKeyValue<?>> keyValues;
         private boolean finished = false;
 
-        private HashMap<WritableValue<?>, Object> initialValuesMap = new HashMap<>();
-        private HashMap<WritableValue<?>, Object> endValuesMap = new HashMap<>();
+        /**
+         * interpolation state of each key value, resolved in {@link #init()} / {@link #reverse(double)}.
+         * double / integer / color targets are interpolated using the primitive start / end values
+         * (color components are stored as 4 consecutive values) without allocating per frame,
+         * other targets fall back to the generic Object interpolation
+         */
+        private JFXKeyValue[] values = new JFXKeyValue[0];
+        private WritableValue[] targets = new WritableValue[0];
+        private int[] kinds = new int[0];
+        private Object[] startValues = new Object[0];
+        private Object[] endValues = new Object[0];
+        private double[] startNumbers = new double[0];
+        private double[] endNumbers = new double[0];
 
         public AnimationHandler(Duration duration, Set<JFXKeyValue<?>> keyValues) {
             this.duration = duration.toMillis();
@@ -197,40 +262,106 @@ public class JFXAnimationTimer extends AnimationTimer {
 
         public void init() {
             finished = false;
-            for (JFXKeyValue keyValue : keyValues) {
-                if (keyValue.getTarget() != null) {
-                    // replaced putIfAbsent for mobile compatibility
-                    if (!initialValuesMap.containsKey(keyValue.getTarget())) {
-                        initialValuesMap.put(keyValue.getTarget(), keyValue.getTarget().getValue());
-                    }
-                    if (!endValuesMap.containsKey(keyValue.getTarget())) {
-                        endValuesMap.put(keyValue.getTarget(), keyValue.getEndValue());
-                    }
-                }
-            }
+            resolve(false);
         }
 
         public void reverse(double now) {
             currentDuration = duration - (currentDuration - now);
             // update initial values
+            resolve(true);
+        }
+
+        /**
+         * resolve the start / end values of the key values
+         *
+         * @param update whether to update the values of already resolved targets
+         */
+        private void resolve(boolean update) {
+            final int size = keyValues.size();
+            if (values.length != size) {
+                values = new JFXKeyValue[size];
+                targets = new WritableValue[size];
+                kinds = new int[size];
+                startValues = new Object[size];
+                endValues = new Object[size];
+                startNumbers = new double[size * 4];
+                endNumbers = new double[size * 4];
+            }
+            int i = 0;
             for (JFXKeyValue keyValue : keyValues) {
+                values[i] = keyValue;
                 final WritableValue target = keyValue.getTarget();
-                if (target != null) {
-                    initialValuesMap.put(target, target.getValue());
-                    endValuesMap.put(target, keyValue.getEndValue());
+                if (target == null) {
+                    targets[i] = null;
+                    kinds[i++] = SKIP;
+                    continue;
                 }
+                if (!update && targets[i] == target && kinds[i] != SKIP) {
+                    // already resolved
+                    i++;
+                    continue;
+                }
+                // key values sharing the same target use the values of the first one
+                int shared = -1;
+                for (int j = 0; j < i && shared == -1; j++) {
+                    if (targets[j] == target) {
+                        shared = j;
+                    }
+                }
+                targets[i] = target;
+                if (shared != -1) {
+                    kinds[i] = kinds[shared];
+                    startValues[i] = startValues[shared];
+                    endValues[i] = endValues[shared];
+                    System.arraycopy(startNumbers, shared * 4, startNumbers, i * 4, 4);
+                    System.arraycopy(endNumbers, shared * 4, endNumbers, i * 4, 4);
+                } else {
+                    resolve(i, target, target.getValue(), keyValue.getEndValue());
+                }
+                i++;
+            }
+        }
+
+        private void resolve(int i, WritableValue target, Object startValue, Object endValue) {
+            startValues[i] = startValue;
+            endValues[i] = endValue;
+            final int offset = i * 4;
+            if (endValue == null) {
+                kinds[i] = SKIP;
+            } else if (target instanceof WritableDoubleValue && endValue instanceof Number) {
+                kinds[i] = DOUBLE;
+                startNumbers[offset] = ((WritableDoubleValue) target).get();
+                endNumbers[offset] = ((Number) endValue).doubleValue();
+            } else if (target instanceof WritableIntegerValue && endValue instanceof Number) {
+                kinds[i] = INTEGER;
+                startNumbers[offset] = ((WritableIntegerValue) target).get();
+                endNumbers[offset] = ((Number) endValue).intValue();
+            } else if (startValue instanceof Color && endValue instanceof Color) {
+                kinds[i] = COLOR;
+                final Color start = (Color) startValue;
+                final Color end = (Color) endValue;
+                startNumbers[offset] = start.getRed();
+                startNumbers[offset + 1] = start.getGreen();
+                startNumbers[offset + 2] = start.getBlue();
+                startNumbers[offset + 3] = start.getOpacity();
+                endNumbers[offset] = end.getRed();
+                endNumbers[offset + 1] = end.getGreen();
+                endNumbers[offset + 2] = end.getBlue();
+                endNumbers[offset + 3] = end.getOpacity();
+            } else {
+                kinds[i] = GENERIC;
             }
         }
 
         // now in milliseconds
         public void animate(double now) {
             if (now <= currentDuration) {
-                for (JFXKeyValue keyValue : keyValues) {
-                    if (keyValue.isValid()) {
-                        final WritableValue target = keyValue.getTarget();
-                        final Object endValue = endValuesMap.get(target);
-                        if (endValue != null && target != null && !target.getValue().equals(endValue)) {
-                            target.setValue(keyValue.getInterpolator().interpolate(initialValuesMap.get(target), endValue, now / currentDuration));
+                final double fraction = now / currentDuration;
+                for (int i = 0; i < values.length; i++) {
+                    if (kinds[i] != SKIP && values[i].isValid()) {
+                        final WritableValue target = values[i].getTarget();
+                        if (target != null && target == targets[i]) {
+                            interpolate(i, target, fraction);
                         }
                     }
                 }
@@ -254,6 +385,51 @@ public class JFXAnimationTimer extends AnimationTimer {
             }
         }
 
+        private void interpolate(int i, WritableValue target, double fraction) {
+            final Interpolator interpolator = values[i].getInterpolator();
+            final int offset = i * 4;
+            switch (kinds[i]) {
+                case DOUBLE: {
+                    final WritableDoubleValue doubleTarget = (WritableDoubleValue) target;
+                    if (doubleTarget.get() != endNumbers[offset]) {
+                        doubleTarget.set(interpolator.interpolate(startNumbers[offset], endNumbers[offset], fraction));
+                    }
+                    break;
+                }
+                case INTEGER: {
+                    final WritableIntegerValue intTarget = (WritableIntegerValue) target;
+                    if (intTarget.get() != (int) endNumbers[offset]) {
+                        intTarget.set(interpolator.interpolate((int) startNumbers[offset], (int) endNumbers[offset], fraction));
+                    }
+                    break;
+                }
+                case COLOR: {
+                    if (!endValues[i].equals(target.getValue())) {
+                        // interpolating 0 -> 1 gives the interpolation curve at the current fraction
+                        final double curve = interpolator.interpolate(0.0, 1.0, fraction);
+                        target.setValue(new Color(
+                            interpolate(startNumbers[offset], endNumbers[offset], curve),
+                            interpolate(startNumbers[offset + 1], endNumbers[offset + 1], curve),
+                            interpolate(startNumbers[offset + 2], endNumbers[offset + 2], curve),
+                            interpolate(startNumbers[offset + 3], endNumbers[offset + 3], curve)));
+                    }
+                    break;
+                }
+                default: {
+                    final Object value = target.getValue();
+                    if (value == null || !value.equals(endValues[i])) {
+                        target.setValue(interpolator.interpolate(startValues[i], endValues[i], fraction));
+                    }
+                    break;
+                }
+            }
+        }
+
+        private static double interpolate(double start, double end, double curve) {
+            final double value = start + (end - start) * curve;
+            return value < 0 ? 0 : value > 1 ? 1 : value;
+        }
+
         public void applyEndValues() {
             for (JFXKeyValue keyValue : keyValues) {
                 if (keyValue.isValid()) {
@@ -269,12 +445,14 @@ public class JFXAnimationTimer extends AnimationTimer {
         }
 
         public void clear() {
-            initialValuesMap.clear();
-            endValuesMap.clear();
+            Arrays.fill(targets, null);
+            Arrays.fill(startValues, null);
+            Arrays.fill(endValues, null);
         }
 
         public void dispose() {
             clear();
+            values = new JFXKeyValue[0];
             keyValues.clear();
         }
     }
@@ -0,0 +1,443 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions.metrics;
+
+import com.jfoenix.concurrency.JFXUtilities;
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * opt-in instrumentation of JFoenix animations, it's disabled by default.
+ * <p>
+ * once enabled, running animations are registered with a name and their owning node / control,
+ * the cost of each interpolation, the frame time, the animations cost per pulse and the number
+ * of concurrent animations are recorded in lock-free histograms. the metrics can be read using
+ * {@link #snapshot()} or through JMX ({@value #OBJECT_NAME}).
+ * <p>
+ * NOTE: while enabled, a pulse listener is registered to measure the frame time,
+ * which keeps the FX pulse running.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class JFXAnimationMetrics {
+
+    public static final String OBJECT_NAME = "com.jfoenix:type=AnimationMetrics";
+
+    private static volatile boolean enabled = false;
+    private static volatile long frameBudget = 16_666_667L;
+
+    private static final LongHistogram frameTimes = new LongHistogram();
+    private static final LongHistogram pulseAnimationCosts = new LongHistogram();
+    private static final LongHistogram concurrentAnimations = new LongHistogram();
+    private static final Map<String, LongHistogram> animationCosts = new ConcurrentHashMap<>();
+    private static final AtomicLong droppedFrames = new AtomicLong();
+    private static final AtomicLong framesOverBudget = new AtomicLong();
+    private static final AtomicLong currentPulseCost = new AtomicLong();
+    private static final Map<Object, Registration> runningAnimations = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * animations registered by {@link #track(Animation, String, Object)} until they stop
+     */
+    private static final Set<Animation> trackedAnimations = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static boolean mbeanRegistered = false;
+
+    private static final AnimationTimer pulseMonitor = new AnimationTimer() {
+        private long lastPulse = -1;
+
+        @Override
+        public void start() {
+            lastPulse = -1;
+            super.start();
+        }
+
+        @Override
+        public void handle(long now) {
+            if (lastPulse != -1) {
+                final long frameTime = now - lastPulse;
+                final long budget = frameBudget;
+                frameTimes.record(frameTime);
+                if (frameTime > budget + budget / 2) {
+                    framesOverBudget.incrementAndGet();
+                    droppedFrames.addAndGet(Math.round((double) frameTime / budget) - 1);
+                }
+            }
+            lastPulse = now;
+            pulseAnimationCosts.record(currentPulseCost.getAndSet(0));
+            concurrentAnimations.record(runningAnimations.size());
+        }
+    };
+
+    private JFXAnimationMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * enable / disable the instrumentation, enabling it also registers the metrics MBean
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        if (JFXAnimationMetrics.enabled == enabled) {
+            return;
+        }
+        JFXAnimationMetrics.enabled = enabled;
+        if (enabled) {
+            registerMBean();
+            JFXUtilities.runInFX(pulseMonitor::start);
+        } else {
+            runningAnimations.clear();
+            JFXUtilities.runInFX(pulseMonitor::stop);
+        }
+    }
+
+    /**
+     * @return frame budget in nanoseconds, frames taking longer than 1.5 frame budget are
+     * counted as over budget
+     */
+    public static long getFrameBudget() {
+        return frameBudget;
+    }
+
+    public static void setFrameBudget(long frameBudgetNanos) {
+        if (frameBudgetNanos <= 0) {
+            throw new IllegalArgumentException("frame budget must be positive");
+        }
+        frameBudget = frameBudgetNanos;
+    }
+
+    /**
+     * register a running animation
+     *
+     * @param animation the running animation
+     * @param name      animation name
+     * @param owner     node / control that owns the animation, can be null
+     */
+    public static void animationStarted(Object animation, String name, Object owner) {
+        if (enabled) {
+            runningAnimations.put(animation, new Registration(name, owner));
+        }
+    }
+
+    public static void animationStopped(Object animation) {
+        if (enabled) {
+            runningAnimations.remove(animation);
+        }
+    }
+
+    /**
+     * registers the animation while it's running, used for animations that can't report
+     * their interpolation cost (e.g. timelines). it must be called before each play, the
+     * animation is tracked until it stops. does nothing if the metrics are disabled or the
+     * animation is already tracked.
+     * <p>
+     * <b>Note:</b> this method must be called from the FX thread
+     */
+    public static void track(Animation animation, String name, Object owner) {
+        if (!enabled || !trackedAnimations.add(animation)) {
+            return;
+        }
+        final InvalidationListener statusListener = new InvalidationListener() {
+            @Override
+            public void invalidated(Observable observable) {
+                final Animation.Status status = animation.getStatus();
+                if (status == Animation.Status.RUNNING) {
+                    animationStarted(animation, name, owner);
+                } else {
+                    animationStopped(animation);
+                    if (status == Animation.Status.STOPPED) {
+                        animation.statusProperty().removeListener(this);
+                        trackedAnimations.remove(animation);
+                    }
+                }
+            }
+        };
+        animation.statusProperty().addListener(statusListener);
+        if (animation.getStatus() == Animation.Status.RUNNING) {
+            animationStarted(animation, name, owner);
+        }
+    }
+
+    /**
+     * @return the start time of an interpolation sample, 0 if the metrics are disabled
+     */
+    public static long startSample() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * record the interpolation cost of an animation
+     *
+     * @param name      animation name
+     * @param startTime value returned by {@link #startSample()}
+     */
+    public static void endSample(String name, long startTime) {
+        if (startTime == 0 || !enabled) {
+            return;
+        }
+        final long cost = System.nanoTime() - startTime;
+        animationCosts.computeIfAbsent(name, key -> new LongHistogram()).record(cost);
+        currentPulseCost.addAndGet(cost);
+    }
+
+    public static void reset() {
+        frameTimes.reset();
+        pulseAnimationCosts.reset();
+        concurrentAnimations.reset();
+        animationCosts.clear();
+        droppedFrames.set(0);
+        framesOverBudget.set(0);
+    }
+
+    public static Snapshot snapshot() {
+        final Map<String, LongHistogram.Snapshot> costs = new TreeMap<>();
+        animationCosts.forEach((name, histogram) -> costs.put(name, histogram.snapshot()));
+        final List<String> running = new ArrayList<>();
+        synchronized (runningAnimations) {
+            for (Registration registration : runningAnimations.values()) {
+                running.add(registration.toString());
+            }
+        }
+        return new Snapshot(frameTimes.snapshot(), pulseAnimationCosts.snapshot(), concurrentAnimations.snapshot(),
+            Collections.unmodifiableMap(costs), Collections.unmodifiableList(running),
+            droppedFrames.get(), framesOverBudget.get());
+    }
+
+    private static void registerMBean() {
+        if (!mbeanRegistered) {
+            mbeanRegistered = true;
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MBean(), new ObjectName(OBJECT_NAME));
+            } catch (Exception | LinkageError e) {
+                // JMX is not available on all platforms (e.g. mobile)
+                Logger.getLogger(JFXAnimationMetrics.class.getName())
+                    .log(Level.INFO, "Can't register animation metrics MBean", e);
+            }
+        }
+    }
+
+    private static final class Registration {
+        private final String name;
+        private final WeakReference<Object> owner;
+
+        private Registration(String name, Object owner) {
+            this.name = name;
+            this.owner = owner == null ? null : new WeakReference<>(owner);
+        }
+
+        @Override
+        public String toString() {
+            final Object owner = this.owner == null ? null : this.owner.get();
+            return owner == null ? name : name + " (" + owner + ")";
+        }
+    }
+
+    /**
+     * point in time copy of the animation metrics, durations are in nanoseconds
+     */
+    public static final class Snapshot {
+        private final LongHistogram.Snapshot frameTimes;
+        private final LongHistogram.Snapshot pulseAnimationCosts;
+        private final LongHistogram.Snapshot concurrentAnimations;
+        private final Map<String, LongHistogram.Snapshot> animationCosts;
+        private final List<String> runningAnimations;
+        private final long droppedFrames;
+        private final long framesOverBudget;
+
+        private Snapshot(LongHistogram.Snapshot frameTimes,
+                         LongHistogram.Snapshot pulseAnimationCosts,
+                         LongHistogram.Snapshot concurrentAnimations,
+                         Map<String, LongHistogram.Snapshot> animationCosts,
+                         List<String> runningAnimations,
+                         long droppedFrames,
+                         long framesOverBudget) {
+            this.frameTimes = frameTimes;
+            this.pulseAnimationCosts = pulseAnimationCosts;
+            this.concurrentAnimations = concurrentAnimations;
+            this.animationCosts = animationCosts;
+            this.runningAnimations = runningAnimations;
+            this.droppedFrames = droppedFrames;
+            this.framesOverBudget = framesOverBudget;
+        }
+
+        /**
+         * @return time between consecutive pulses
+         */
+        public LongHistogram.Snapshot getFrameTimes() {
+            return frameTimes;
+        }
+
+        /**
+         * @return the total interpolation cost of all animations per pulse
+         */
+        public LongHistogram.Snapshot getPulseAnimationCosts() {
+            return pulseAnimationCosts;
+        }
+
+        /**
+         * @return number of running animations sampled on each pulse
+         */
+        public LongHistogram.Snapshot getConcurrentAnimations() {
+            return concurrentAnimations;
+        }
+
+        /**
+         * @return interpolation cost per animation name
+         */
+        public Map<String, LongHistogram.Snapshot> getAnimationCosts() {
+            return animationCosts;
+        }
+
+        /**
+         * @return description (name and owner) of the running animations
+         */
+        public List<String> getRunningAnimations() {
+            return runningAnimations;
+        }
+
+        public long getDroppedFrames() {
+            return droppedFrames;
+        }
+
+        public long getFramesOverBudget() {
+            return framesOverBudget;
+        }
+    }
+
+    private static final class MBean implements JFXAnimationMetricsMXBean {
+        private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+        @Override
+        public boolean isEnabled() {
+            return JFXAnimationMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            JFXAnimationMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public double getFrameBudgetMillis() {
+            return frameBudget / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public void setFrameBudgetMillis(double frameBudget) {
+            setFrameBudget((long) (frameBudget * NANOS_PER_MILLI));
+        }
+
+        @Override
+        public long getFrameCount() {
+            return frameTimes.snapshot().getCount();
+        }
+
+        @Override
+        public long getDroppedFrameCount() {
+            return droppedFrames.get();
+        }
+
+        @Override
+        public long getFramesOverBudgetCount() {
+            return framesOverBudget.get();
+        }
+
+        @Override
+        public double getMeanFrameMillis() {
+            return frameTimes.snapshot().getMean() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getMaxFrameMillis() {
+            return frameTimes.snapshot().getMax() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getFrame99thPercentileMillis() {
+            return frameTimes.snapshot().getPercentile(99) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getMeanPulseAnimationMillis() {
+            return pulseAnimationCosts.snapshot().getMean() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getMaxPulseAnimationMillis() {
+            return pulseAnimationCosts.snapshot().getMax() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public int getRunningAnimationCount() {
+            return runningAnimations.size();
+        }
+
+        @Override
+        public long getMaxConcurrentAnimationCount() {
+            return concurrentAnimations.snapshot().getMax();
+        }
+
+        @Override
+        public String[] getRunningAnimations() {
+            final List<String> running = snapshot().getRunningAnimations();
+            return running.toArray(new String[running.size()]);
+        }
+
+        @Override
+        public Map<String, Double> getMeanAnimationMillis() {
+            final Map<String, Double> result = new LinkedHashMap<>();
+            snapshot().getAnimationCosts().forEach((name, costs) -> result.put(name, costs.getMean() / NANOS_PER_MILLI));
+            return result;
+        }
+
+        @Override
+        public Map<String, Double> getMaxAnimationMillis() {
+            final Map<String, Double> result = new LinkedHashMap<>();
+            snapshot().getAnimationCosts().forEach((name, costs) -> result.put(name, costs.getMax() / NANOS_PER_MILLI));
+            return result;
+        }
+
+        @Override
+        public void reset() {
+            JFXAnimationMetrics.reset();
+        }
+    }
+}
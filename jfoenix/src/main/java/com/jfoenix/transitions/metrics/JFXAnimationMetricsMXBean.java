@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link JFXAnimationMetrics}, registered as
+ * {@value JFXAnimationMetrics#OBJECT_NAME} once the metrics are enabled.
+ * all durations are in milliseconds.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JFXAnimationMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    double getFrameBudgetMillis();
+
+    void setFrameBudgetMillis(double frameBudget);
+
+    long getFrameCount();
+
+    long getDroppedFrameCount();
+
+    long getFramesOverBudgetCount();
+
+    double getMeanFrameMillis();
+
+    double getMaxFrameMillis();
+
+    double getFrame99thPercentileMillis();
+
+    double getMeanPulseAnimationMillis();
+
+    double getMaxPulseAnimationMillis();
+
+    int getRunningAnimationCount();
+
+    long getMaxConcurrentAnimationCount();
+
+    String[] getRunningAnimations();
+
+    /**
+     * @return mean interpolation cost per animation name
+     */
+    Map<String, Double> getMeanAnimationMillis();
+
+    /**
+     * @return max interpolation cost per animation name
+     */
+    Map<String, Double> getMaxAnimationMillis();
+
+    void reset();
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXMasonryPane.LayoutMode;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Insets;
+import javafx.scene.layout.Region;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class JFXMasonryPaneTest {
+
+    private static final double CELL = 70;
+
+    private final LayoutMode masonry = LayoutMode.MASONRY;
+
+    @Test
+    public void blocksArePlacedOnTheLowestColumns() {
+        final List<Region> blocks = Arrays.asList(block(1, 2), block(1, 1), block(1, 1), block(2, 1), block(1, 1));
+        final List<BoundingBox> boxes = fill(blocks, 10, 3);
+
+        assertBox(0, 0, 1, 2, boxes.get(0));
+        assertBox(0, 1, 1, 1, boxes.get(1));
+        assertBox(0, 2, 1, 1, boxes.get(2));
+        // the leftmost of the lowest positions that fit both columns
+        assertBox(1, 1, 2, 1, boxes.get(3));
+        assertBox(2, 0, 1, 1, boxes.get(4));
+    }
+
+    @Test
+    public void blocksThatDontFitHaveNoBox() {
+        final List<Region> blocks = Arrays.asList(block(1, 2), block(4, 1), block(1, 2), block(1, 1));
+        final List<BoundingBox> boxes = fill(blocks, 2, 3);
+
+        assertBox(0, 0, 1, 2, boxes.get(0));
+        // wider than the grid
+        assertNull(boxes.get(1));
+        assertBox(0, 1, 1, 2, boxes.get(2));
+        assertBox(0, 2, 1, 1, boxes.get(3));
+    }
+
+    @Test
+    public void gridWithoutColumnsHasNoBoxes() {
+        assertNull(fill(Arrays.asList(block(1, 1)), 1, 0));
+    }
+
+    @Test
+    public void eachLayoutReturnsItsOwnBoxes() {
+        final List<Region> blocks = Arrays.asList(block(1, 1), block(1, 1));
+        assertNotSame(fill(blocks, 2, 2), fill(blocks, 2, 2));
+    }
+
+    @Test
+    public void paneNarrowerThanItsInsetsIsNotLaidOut() {
+        final JFXMasonryPane pane = new JFXMasonryPane();
+        pane.setPadding(new Insets(0, 200, 0, 0));
+        final Region block = block(1, 1);
+        pane.getChildren().add(block);
+        pane.resize(100, 100);
+        pane.layoutChildren();
+        assertEquals(0, block.getLayoutX(), 0);
+        assertEquals(0, block.getLayoutY(), 0);
+    }
+
+    private List<BoundingBox> fill(List<Region> blocks, int rows, int columns) {
+        return masonry.fillGrid(new int[rows][columns], blocks, CELL, CELL, rows, columns, 0, 0);
+    }
+
+    private static Region block(int columns, int rows) {
+        final Region block = new Region();
+        block.setMinSize(columns * CELL, rows * CELL);
+        return block;
+    }
+
+    /**
+     * boxes hold the row / column in their min x / y
+     */
+    private static void assertBox(int row, int column, int columns, int rows, BoundingBox box) {
+        assertEquals(new BoundingBox(row, column, columns, rows), box);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.RecursiveTreeItem.FilterSnapshot;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RecursiveTreeItemTest {
+
+    private static final Predicate<TreeItem<Row>> ENDS_WITH_ONE = item -> item.getValue().name.endsWith("1");
+
+    @Test
+    public void filterKeepsTheParentsOfVisibleRows() {
+        final Row a = new Row("a", new Row("a1"), new Row("a2"));
+        final Row b = new Row("b");
+        final Row c = new Row("c", new Row("c2", new Row("c21")));
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(FXCollections.observableArrayList(a, b, c),
+            RecursiveTreeObject::getChildren);
+
+        final Map<TreeItem<Row>, Boolean> visibility = computeFilter(root, ENDS_WITH_ONE);
+        final RecursiveTreeItem<Row> itemA = (RecursiveTreeItem<Row>) root.getTreeItem(a);
+        final RecursiveTreeItem<Row> itemC = (RecursiveTreeItem<Row>) root.getTreeItem(c);
+        assertTrue(visibility.get(itemA));
+        assertTrue(visibility.get(itemA.getTreeItem(a.getChildren().get(0))));
+        assertFalse(visibility.get(itemA.getTreeItem(a.getChildren().get(1))));
+        assertFalse(visibility.get(root.getTreeItem(b)));
+        assertTrue(visibility.get(itemC));
+        assertTrue(visibility.get(itemC.getTreeItem(c.getChildren().get(0))));
+    }
+
+    @Test
+    public void filterHidesGroupNodesWithoutVisibleRows() {
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(FXCollections.<Row>observableArrayList(),
+            RecursiveTreeObject::getChildren);
+        final TreeItem<Row> visibleGroup = groupItem(new Row("a1"), new Row("a2"));
+        final TreeItem<Row> hiddenGroup = groupItem(new Row("b2"));
+        root.originalItems.add(visibleGroup);
+        root.originalItems.add(hiddenGroup);
+
+        final Map<TreeItem<Row>, Boolean> visibility = computeFilter(root, ENDS_WITH_ONE);
+        assertTrue(visibility.get(visibleGroup));
+        assertFalse(visibility.get(hiddenGroup));
+    }
+
+    @Test
+    public void collapsedLazyRowsAreFilteredWithoutCreatingTheirChildren() {
+        final Row a = new Row("a", new Row("a2", new Row("a21")));
+        final Row b = new Row("b", new Row("b2"));
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(FXCollections.observableArrayList(a, b),
+            RecursiveTreeItem.objectChildrenFactory(), true);
+        final TreeItem<Row> itemA = root.getTreeItem(a);
+        final TreeItem<Row> itemB = root.getTreeItem(b);
+
+        final Map<TreeItem<Row>, Boolean> visibility = computeFilter(root, ENDS_WITH_ONE);
+        assertTrue(visibility.get(itemA));
+        assertFalse(visibility.get(itemB));
+        assertTrue(itemA.getChildren().isEmpty());
+        assertFalse(itemA.isLeaf());
+
+        itemA.setExpanded(true);
+        assertEquals(1, itemA.getChildren().size());
+        assertSame(a.getChildren().get(0), itemA.getChildren().get(0).getValue());
+    }
+
+    @Test
+    public void cancelledFilterIsAbandoned() {
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(
+            FXCollections.observableArrayList(new Row("a1"), new Row("b1")), RecursiveTreeObject::getChildren);
+        final Map<TreeItem<Row>, Boolean> visibility = new IdentityHashMap<>();
+        assertFalse(root.computeFilter(ENDS_WITH_ONE, root.createFilterSnapshot(), visibility, () -> true, null));
+        assertTrue(visibility.isEmpty());
+    }
+
+    @Test
+    public void filterUsesTheSnapshotChildren() {
+        final ObservableList<Row> rows = FXCollections.observableArrayList(new Row("a1"));
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(rows, RecursiveTreeObject::getChildren);
+        final FilterSnapshot<Row> snapshot = root.createFilterSnapshot();
+        // rows added after the snapshot are evaluated once the filter is applied
+        rows.add(new Row("b1"));
+
+        final Map<TreeItem<Row>, Boolean> visibility = new IdentityHashMap<>();
+        final List<Double> progress = new ArrayList<>();
+        assertTrue(root.computeFilter(ENDS_WITH_ONE, snapshot, visibility, () -> false, progress::add));
+        assertEquals(1, visibility.size());
+        assertEquals(1, progress.size());
+        assertEquals(1, progress.get(0), 0);
+    }
+
+    @Test
+    public void childrenFollowTheDataChanges() {
+        final Row a = new Row("a");
+        final Row b = new Row("b");
+        final Row c = new Row("c");
+        final ObservableList<Row> rows = FXCollections.observableArrayList(a, b);
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(rows, RecursiveTreeObject::getChildren);
+
+        rows.add(0, c);
+        assertEquals("c a b", names(root.originalItems));
+        assertSame(c, root.getTreeItem(c).getValue());
+
+        rows.remove(a);
+        assertEquals("c b", names(root.originalItems));
+        assertEquals("b c", names(root.getChildren()));
+        assertNull(root.getTreeItem(a));
+
+        rows.sort((first, second) -> first.name.compareTo(second.name));
+        assertEquals("b c", names(root.originalItems));
+    }
+
+    @Test
+    public void flatLeavesFollowTheDataOrder() {
+        final ObservableList<Row> rows = FXCollections.observableArrayList(new Row("b"), new Row("a"));
+        final RecursiveTreeItem<Row> root = RecursiveTreeItem.flat(rows);
+
+        rows.add(1, new Row("c"));
+        assertEquals("b c a", names(root.originalItems));
+        rows.remove(0);
+        assertEquals("c a", names(root.originalItems));
+        rows.sort((first, second) -> first.name.compareTo(second.name));
+        assertEquals("a c", names(root.originalItems));
+
+        final TreeItem<Row> leaf = root.originalItems.get(0);
+        assertTrue(leaf.isLeaf());
+        assertTrue(leaf.getChildren().isEmpty());
+    }
+
+    @Test
+    public void flatLookupReturnsTheFirstLeafOfEqualValues() {
+        final Row first = new Row("a");
+        final ObservableList<Row> rows = FXCollections.observableArrayList(new Row("b"), first, new Row("a"));
+        final RecursiveTreeItem<Row> root = RecursiveTreeItem.flat(rows);
+
+        final TreeItem<Row> firstLeaf = root.getTreeItem(new Row("a"));
+        assertSame(first, firstLeaf.getValue());
+        assertSame(root.originalItems.get(1), firstLeaf);
+
+        // an equal value inserted before the first one takes over
+        rows.add(0, new Row("a"));
+        assertSame(root.originalItems.get(0), root.getTreeItem(first));
+
+        rows.remove(0, 3);
+        assertSame(root.originalItems.get(0), root.getTreeItem(first));
+        rows.clear();
+        assertNull(root.getTreeItem(first));
+    }
+
+    private static Map<TreeItem<Row>, Boolean> computeFilter(RecursiveTreeItem<Row> root, Predicate<TreeItem<Row>> predicate) {
+        final Map<TreeItem<Row>, Boolean> visibility = new IdentityHashMap<>();
+        assertTrue(root.computeFilter(predicate, root.createFilterSnapshot(), visibility, () -> false, null));
+        return visibility;
+    }
+
+    /**
+     * group nodes hold plain tree objects, same as the grouped tree items of the tree table view
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static TreeItem<Row> groupItem(Row... rows) {
+        final RecursiveTreeObject group = new RecursiveTreeObject();
+        group.setChildren(FXCollections.observableArrayList(rows));
+        return new RecursiveTreeItem<>(group, RecursiveTreeObject::getChildren);
+    }
+
+    private static String names(List<TreeItem<Row>> items) {
+        final StringBuilder builder = new StringBuilder();
+        for (TreeItem<Row> item : items) {
+            builder.append(builder.length() == 0 ? "" : " ").append(item.getValue().name);
+        }
+        return builder.toString();
+    }
+
+    private static final class Row extends RecursiveTreeObject<Row> {
+        private final String name;
+
+        private Row(String name, Row... children) {
+            this.name = name;
+            if (children.length > 0) {
+                setChildren(FXCollections.observableArrayList(children));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Row && Objects.equals(name, ((Row) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+}
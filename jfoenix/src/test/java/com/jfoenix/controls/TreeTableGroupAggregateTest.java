@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXTreeTableColumn.Aggregate;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TreeTableGroupAggregateTest {
+
+    @Test
+    public void aggregatesAreUpdatedIncrementally() {
+        final TreeTableGroupAggregate aggregate = new TreeTableGroupAggregate(Arrays.asList(Aggregate.values()));
+        aggregate.add(4);
+        aggregate.add(1);
+        aggregate.add(7);
+        aggregate.add(null);
+        assertEquals(3, aggregate.getCount());
+        assertEquals(12, aggregate.getSum(), 0);
+        assertEquals(4, aggregate.getAverage(), 0);
+        assertEquals(1.0, aggregate.getMin());
+        assertEquals(7.0, aggregate.getMax());
+
+        // removing the min / max values doesn't lose the others
+        aggregate.remove(1);
+        aggregate.remove(7);
+        assertEquals(1, aggregate.getCount());
+        assertEquals(4, aggregate.getSum(), 0);
+        assertEquals(4.0, aggregate.getMin());
+        assertEquals(4.0, aggregate.getMax());
+
+        aggregate.remove(4);
+        assertEquals(0, aggregate.getAverage(), 0);
+        assertNull(aggregate.getMin());
+        assertNull(aggregate.getMax());
+    }
+
+    @Test
+    public void duplicateValuesAreCounted() {
+        final TreeTableGroupAggregate aggregate = new TreeTableGroupAggregate(Arrays.asList(Aggregate.MIN, Aggregate.MAX));
+        aggregate.add("b");
+        aggregate.add("a");
+        aggregate.add("a");
+        aggregate.remove("a");
+        assertEquals("a", aggregate.getMin());
+        assertEquals("b", aggregate.getMax());
+    }
+
+    @Test
+    public void onlyTheDeclaredAggregatesAreComputed() {
+        final TreeTableGroupAggregate aggregate = new TreeTableGroupAggregate(Collections.singletonList(Aggregate.SUM));
+        aggregate.add(2);
+        aggregate.add(3);
+        assertEquals(5, aggregate.getSum(), 0);
+        assertEquals(0, aggregate.getCount());
+        assertEquals(0, aggregate.getAverage(), 0);
+        assertNull(aggregate.getMin());
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.TreeTableColumn.CellDataFeatures;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TreeTableGroupIndexTest {
+
+    private final TreeTableColumn<Row, String> department = column(row -> row.department);
+    private final TreeTableColumn<Row, String> team = column(row -> row.team);
+    private final List<TreeTableColumn<Row, ?>> tableColumns = Arrays.asList(department, team);
+
+    @Test
+    public void rowsAreGroupedInTheirFirstAppearanceOrder() {
+        final RecursiveTreeItem<Row> root = root(
+            new Row("a", "x", "1"), new Row("b", "x", "2"), new Row("a", "y", "3"), new Row("c", "x", "4"));
+        final TreeTableGroupIndex<Row> index = index(department);
+        index.addAll(root.filteredItems);
+
+        assertEquals("a[1, 3] b[2] c[4]", describe(index.getRoot()));
+        assertEquals(2, group(index.getRoot().getChildren().get(0)).getGroupedItemsCount());
+        assertSame(department, group(index.getRoot().getChildren().get(0)).getGroupedColumn());
+    }
+
+    @Test
+    public void nestedGroupsCountTheirDescendantRows() {
+        final RecursiveTreeItem<Row> root = root(
+            new Row("a", "x", "1"), new Row("a", "y", "2"), new Row("a", "x", "3"), new Row("b", "y", "4"));
+        final TreeTableGroupIndex<Row> index = index(department, team);
+        index.addAll(root.filteredItems);
+
+        assertEquals("a[x[1, 3] y[2]] b[y[4]]", describe(index.getRoot()));
+        assertEquals(3, group(index.getRoot().getChildren().get(0)).getGroupedItemsCount());
+        assertEquals(2, group(index.getRoot().getChildren().get(0).getChildren().get(0)).getGroupedItemsCount());
+    }
+
+    @Test
+    public void deltasOnlyTouchTheAffectedGroups() {
+        final RecursiveTreeItem<Row> root = root(new Row("a", "x", "1"), new Row("b", "x", "2"), new Row("a", "x", "3"));
+        final TreeTableGroupIndex<Row> index = index(department);
+        index.addAll(root.filteredItems);
+        final TreeItem<Row> groupA = index.getRoot().getChildren().get(0);
+
+        final RecursiveTreeItem<Row> added = new RecursiveTreeItem<>(new Row("c", "x", "4"), RecursiveTreeObject::getChildren);
+        index.apply(Collections.singletonList(root.filteredItems.get(1)), Collections.singletonList(added));
+
+        // the emptied group is pruned, the untouched group node is kept
+        assertEquals("a[1, 3] c[4]", describe(index.getRoot()));
+        assertSame(groupA, index.getRoot().getChildren().get(0));
+
+        index.apply(Collections.singletonList(root.filteredItems.get(0)), Collections.emptyList());
+        assertEquals("a[3] c[4]", describe(index.getRoot()));
+        assertEquals(1, group(groupA).getGroupedItemsCount());
+    }
+
+    @Test
+    public void rowsRemovedAndAddedInTheSameDeltaAreKept() {
+        final RecursiveTreeItem<Row> root = root(new Row("a", "x", "1"), new Row("a", "x", "2"));
+        final TreeTableGroupIndex<Row> index = index(department);
+        index.addAll(root.filteredItems);
+
+        index.apply(new ArrayList<>(root.filteredItems), new ArrayList<>(root.filteredItems));
+        assertEquals("a[1, 2]", describe(index.getRoot()));
+        assertEquals(2, group(index.getRoot().getChildren().get(0)).getGroupedItemsCount());
+    }
+
+    @Test
+    public void updatedRowsMoveToTheirNewGroup() {
+        final Row row = new Row("a", "x", "1");
+        final RecursiveTreeItem<Row> root = root(row, new Row("b", "x", "2"));
+        final TreeTableGroupIndex<Row> index = index(department);
+        index.addAll(root.filteredItems);
+
+        row.department.set("b");
+        index.update(root.filteredItems.get(0));
+        assertEquals("b[2, 1]", describe(index.getRoot()));
+        assertEquals(2, group(index.getRoot().getChildren().get(0)).getGroupedItemsCount());
+    }
+
+    @Test
+    public void reorderKeepsTheRowsInTheirGroups() {
+        final ObservableList<Row> rows = FXCollections.observableArrayList(
+            new Row("a", "x", "1"), new Row("b", "x", "2"), new Row("a", "x", "3"));
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(rows, RecursiveTreeObject::getChildren);
+        final TreeTableGroupIndex<Row> index = index(department);
+        index.addAll(root.filteredItems);
+
+        rows.sort((first, second) -> second.name.compareTo(first.name));
+        index.reorder(root.filteredItems);
+        assertEquals("a[3, 1] b[2]", describe(index.getRoot()));
+    }
+
+    @Test
+    public void syncAppliesTheMissedChanges() {
+        final ObservableList<Row> rows = FXCollections.observableArrayList(new Row("a", "x", "1"), new Row("b", "x", "2"));
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(rows, RecursiveTreeObject::getChildren);
+        final TreeTableGroupIndex<Row> index = index(department);
+        index.addAll(new ArrayList<>(root.filteredItems));
+
+        rows.remove(0);
+        rows.add(new Row("c", "x", "3"));
+        index.sync(root.filteredItems);
+        assertEquals("b[2] c[3]", describe(index.getRoot()));
+    }
+
+    @Test
+    public void parallelGroupingMatchesSequentialGrouping() {
+        final List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(new Row("d" + (i * 7 % 13), "t" + (i % 3), String.valueOf(i)));
+        }
+        final RecursiveTreeItem<Row> root = new RecursiveTreeItem<>(FXCollections.observableArrayList(rows),
+            RecursiveTreeObject::getChildren);
+
+        final TreeTableGroupIndex<Row> sequential = index(department, team);
+        sequential.addAll(root.filteredItems);
+        final TreeTableGroupIndex<Row> parallel = index(department, team);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.addAllParallel(root.filteredItems, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(describe(sequential.getRoot()), describe(parallel.getRoot()));
+    }
+
+    @SafeVarargs
+    private final TreeTableGroupIndex<Row> index(TreeTableColumn<Row, ?>... groupColumns) {
+        return new TreeTableGroupIndex<>(tableColumns, Arrays.asList(groupColumns), () -> { },
+            TreeTableGroupIndexTest::getCellData);
+    }
+
+    /**
+     * columns only return their cell data once they are added to a tree table view
+     */
+    private static <T> Object getCellData(TreeTableColumn<Row, T> column, TreeItem<Row> item) {
+        return column.getCellValueFactory().call(new CellDataFeatures<>(null, column, item)).getValue();
+    }
+
+    private static RecursiveTreeItem<Row> root(Row... rows) {
+        return new RecursiveTreeItem<>(FXCollections.observableArrayList(rows), RecursiveTreeObject::getChildren);
+    }
+
+    private static TreeTableColumn<Row, String> column(Function<Row, StringProperty> property) {
+        final TreeTableColumn<Row, String> column = new TreeTableColumn<>();
+        column.setCellValueFactory(param -> property.apply(param.getValue().getValue()));
+        return column;
+    }
+
+    /**
+     * describes group nodes as key[children] and rows by their names
+     */
+    private static String describe(TreeItem<Row> item) {
+        final StringBuilder builder = new StringBuilder();
+        for (TreeItem<Row> child : item.getChildren()) {
+            final Object value = child.getValue();
+            if (builder.length() > 0) {
+                builder.append(value instanceof Row ? ", " : " ");
+            }
+            if (value instanceof Row) {
+                builder.append(((Row) value).name);
+            } else {
+                builder.append(group(child).getGroupedValue()).append('[').append(describe(child)).append(']');
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * group nodes hold plain tree objects, whatever the type of the rows
+     */
+    private static RecursiveTreeObject<?> group(TreeItem<Row> item) {
+        final Object value = item.getValue();
+        return (RecursiveTreeObject<?>) value;
+    }
+
+    private static final class Row extends RecursiveTreeObject<Row> {
+        private final StringProperty department;
+        private final StringProperty team;
+        private final String name;
+
+        private Row(String department, String team, String name) {
+            this.department = new SimpleStringProperty(department);
+            this.team = new SimpleStringProperty(team);
+            this.name = name;
+        }
+    }
+}
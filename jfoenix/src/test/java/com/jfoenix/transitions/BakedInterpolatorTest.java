@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.Interpolator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BakedInterpolatorTest {
+
+    private static final int STEPS = 10_000;
+
+    /**
+     * linear interpolation error of the default table stays far below a pixel
+     * for values animated over a few thousand pixels
+     */
+    private static final double MAX_ERROR = 1e-4;
+
+    @Test
+    public void bakedCurvesMatchTheirSources() {
+        final Interpolator[] sources = {
+            Interpolator.LINEAR,
+            Interpolator.EASE_BOTH,
+            Interpolator.EASE_IN,
+            Interpolator.EASE_OUT,
+            Interpolator.SPLINE(0.4, 0, 0.2, 1),
+            Interpolator.SPLINE(0.6, 0, 0.4, 1)
+        };
+        for (Interpolator source : sources) {
+            final Interpolator baked = BakedInterpolator.bake(source);
+            assertTrue(baked instanceof BakedInterpolator);
+            assertTrue(source + " max error", maxError(source, baked) < MAX_ERROR);
+        }
+    }
+
+    @Test
+    public void bakedCurveMatchesItsSourceAtTheSamples() {
+        final Interpolator source = Interpolator.SPLINE(0.4, 0, 0.2, 1);
+        final int samples = 16;
+        final Interpolator baked = BakedInterpolator.bake(source, samples);
+        for (int i = 0; i <= samples; i++) {
+            final double fraction = (double) i / samples;
+            // the table is stored in floats
+            assertEquals(source.interpolate(0.0, 1.0, fraction), baked.interpolate(0.0, 1.0, fraction), 1e-6);
+        }
+        assertEquals(0, baked.interpolate(0.0, 1.0, 0), 0);
+        assertEquals(1, baked.interpolate(0.0, 1.0, 1), 0);
+    }
+
+    @Test
+    public void errorDecreasesWithTheNumberOfSamples() {
+        final Interpolator source = Interpolator.EASE_BOTH;
+        double previous = Double.MAX_VALUE;
+        for (int samples = 8; samples <= 512; samples *= 2) {
+            final double error = maxError(source, BakedInterpolator.bake(source, samples));
+            assertTrue("error with " + samples + " samples", error < previous);
+            previous = error;
+        }
+    }
+
+    @Test
+    public void discontinuousInterpolatorsAreNotBaked() {
+        assertSame(Interpolator.DISCRETE, BakedInterpolator.bake(Interpolator.DISCRETE));
+        final Interpolator step = new Interpolator() {
+            @Override
+            protected double curve(double t) {
+                return t < 0.3 ? 0 : 1;
+            }
+        };
+        assertSame(step, BakedInterpolator.bake(step));
+    }
+
+    @Test
+    public void bakedInterpolatorsAreNotBakedAgain() {
+        final Interpolator baked = BakedInterpolator.bake(Interpolator.EASE_BOTH);
+        assertSame(baked, BakedInterpolator.bake(baked));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void samplesMustBePositive() {
+        BakedInterpolator.bake(Interpolator.EASE_BOTH, 0);
+    }
+
+    private static double maxError(Interpolator source, Interpolator baked) {
+        double maxError = 0;
+        for (int i = 0; i <= STEPS; i++) {
+            final double fraction = (double) i / STEPS;
+            maxError = Math.max(maxError,
+                Math.abs(source.interpolate(0.0, 1.0, fraction) - baked.interpolate(0.0, 1.0, fraction)));
+        }
+        return maxError;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class LongHistogramTest {
+
+    @Test
+    public void emptyHistogram() {
+        final LongHistogram.Snapshot snapshot = new LongHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMean(), 0);
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getPercentile(99));
+    }
+
+    @Test
+    public void recordsCountSumMaxAndMean() {
+        final LongHistogram histogram = new LongHistogram();
+        histogram.record(10);
+        histogram.record(30);
+        histogram.record(-5);
+        final LongHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(3, snapshot.getCount());
+        // negative values are recorded as 0
+        assertEquals(40, snapshot.getSum());
+        assertEquals(30, snapshot.getMax());
+        assertEquals(40 / 3.0, snapshot.getMean(), 1e-9);
+    }
+
+    @Test
+    public void percentilesAreBucketUpperBounds() {
+        final LongHistogram histogram = new LongHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        final LongHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.getPercentile(0));
+        // the 500th value is in [256, 511]
+        assertEquals(511, snapshot.getPercentile(50));
+        // bounded by the max value instead of the bucket upper bound (1023)
+        assertEquals(1000, snapshot.getPercentile(99));
+        assertEquals(1000, snapshot.getPercentile(100));
+        // out of range percentiles are clamped
+        assertEquals(1000, snapshot.getPercentile(150));
+    }
+
+    @Test
+    public void largestValuesAreRecorded() {
+        final LongHistogram histogram = new LongHistogram();
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+        final LongHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, snapshot.getPercentile(100));
+    }
+
+    @Test
+    public void snapshotIsNotAffectedByLaterRecords() {
+        final LongHistogram histogram = new LongHistogram();
+        histogram.record(1);
+        final LongHistogram.Snapshot snapshot = histogram.snapshot();
+        histogram.record(100);
+        assertEquals(1, snapshot.getCount());
+        assertEquals(1, snapshot.getPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getMax());
+    }
+
+    @Test
+    public void concurrentRecordsAreNotLost() throws InterruptedException {
+        final LongHistogram histogram = new LongHistogram();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final long offset = t * 10_000L;
+            final Thread thread = new Thread(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    histogram.record(offset + i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        final LongHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(40_000, snapshot.getCount());
+        assertEquals(40_000L * 40_001 / 2, snapshot.getSum());
+        assertEquals(40_000, snapshot.getMax());
+    }
+}